@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.benchmark;
+
+import com.asialjim.microapplet.hermes.HermesService;
+import com.asialjim.microapplet.hermes.event.EventBus;
+import com.asialjim.microapplet.hermes.listener.JvmOnlyMethodListener;
+import com.asialjim.microapplet.hermes.listener.MethodInvoker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本地事件发布基准测试
+ * Benchmark of publishing local events
+ * <pre>
+ *     向只监听本实例事件的监听器发布事件，配合 -prof gc 检查 {@link EventBus#push(Object)} 每次发布的分配字节数
+ *     运行：mvn -P benchmark package && java -jar hermes-benchmark/target/benchmarks.jar EventBusBenchmark -prof gc
+ *     Publishes events to a listener of local events only, run with -prof gc to check the bytes allocated per
+ *     {@link EventBus#push(Object)}
+ *     Run: mvn -P benchmark package && java -jar hermes-benchmark/target/benchmarks.jar EventBusBenchmark -prof gc
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventBusBenchmark {
+    private final LocalEvent event = new LocalEvent("hermes");
+
+    private JvmOnlyMethodListener<LocalEvent> listener;
+
+    @Setup
+    public void setup(Blackhole blackhole) throws NoSuchMethodException {
+        Sink sink = new Sink(blackhole);
+        MethodInvoker invoker = MethodInvoker.of(sink, Sink.class.getMethod("onEvent", LocalEvent.class));
+        this.listener = new JvmOnlyMethodListener<>(new Service(), invoker, LocalEvent.class, 0);
+        this.listener.register();
+    }
+
+    @TearDown
+    public void tearDown() {
+        EventBus.unregister(this.listener);
+    }
+
+    @Benchmark
+    public void push() {
+        EventBus.push(this.event);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EventBusBenchmark.class.getSimpleName()).addProfiler("gc").build()).run();
+    }
+
+    /**
+     * 基准测试使用的本地事件
+     * Local event used by the benchmark
+     *
+     * @param name 事件名称
+     *             Event name
+     */
+    public record LocalEvent(String name) {
+    }
+
+    /**
+     * 接收事件的监听器方法所在的Bean
+     * Bean declaring the listener method receiving the events
+     */
+    public static final class Sink {
+        private final Blackhole blackhole;
+
+        private Sink(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        public void onEvent(LocalEvent event) {
+            this.blackhole.consume(event);
+        }
+    }
+
+    /**
+     * 基准测试使用的服务实例
+     * Service instance used by the benchmark
+     */
+    private static final class Service implements HermesService {
+        @Override
+        public String serviceName() {
+            return "hermes-benchmark";
+        }
+
+        @Override
+        public String instanceId() {
+            return "hermes-benchmark-0";
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.benchmark;
+
+import com.asialjim.microapplet.hermes.listener.MethodInvoker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MethodInvoker} 调用方式基准测试
+ * Benchmark of the {@link MethodInvoker} invocation strategies
+ * <pre>
+ *     对比监听器方法的三种调用方式：{@link MethodInvoker#of} 生成的 LambdaMetafactory 实现、
+ *     绑定了Bean的 {@link MethodHandle}，以及反射调用；监听器方法把事件交给 {@link Blackhole}，避免被消除
+ *     运行：mvn -P benchmark package && java -jar hermes-benchmark/target/benchmarks.jar MethodInvokerBenchmark -prof gc
+ *     Compares the three ways of invoking a listener method: the LambdaMetafactory implementation generated by
+ *     {@link MethodInvoker#of}, a {@link MethodHandle} bound to the bean, and reflection; the listener method hands
+ *     the event to a {@link Blackhole} so it is not eliminated
+ *     Run: mvn -P benchmark package && java -jar hermes-benchmark/target/benchmarks.jar MethodInvokerBenchmark -prof gc
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MethodInvokerBenchmark {
+    private final Event event = new Event("hermes");
+
+    private MethodInvoker lambda;
+    private MethodHandle handle;
+    private Listener listener;
+    private Method method;
+
+    @Setup
+    public void setup(Blackhole blackhole) throws Throwable {
+        this.listener = new Listener(blackhole);
+        this.method = Listener.class.getMethod("onEvent", Event.class);
+        this.lambda = MethodInvoker.of(this.listener, this.method);
+        this.handle = MethodHandles.lookup().unreflect(this.method)
+                .bindTo(this.listener)
+                .asType(MethodType.methodType(void.class, Object.class));
+    }
+
+    @Benchmark
+    public void lambdaMetafactory() throws Throwable {
+        this.lambda.invoke(this.event);
+    }
+
+    @Benchmark
+    public void methodHandle() throws Throwable {
+        this.handle.invokeExact((Object) this.event);
+    }
+
+    @Benchmark
+    public void reflection() throws Exception {
+        this.method.invoke(this.listener, this.event);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MethodInvokerBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * 基准测试使用的事件
+     * Event used by the benchmark
+     *
+     * @param name 事件名称
+     *             Event name
+     */
+    public record Event(String name) {
+    }
+
+    /**
+     * 基准测试使用的监听器
+     * Listener used by the benchmark
+     */
+    public static final class Listener {
+        private final Blackhole blackhole;
+
+        private Listener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        public void onEvent(Event event) {
+            this.blackhole.consume(event);
+        }
+    }
+}
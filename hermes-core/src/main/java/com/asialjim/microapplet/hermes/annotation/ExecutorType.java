@@ -0,0 +1,39 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.annotation;
+
+/**
+ * 异步监听器的执行方式
+ * Execution mode of async listeners
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+public enum ExecutorType {
+    /**
+     * 使用容器中配置的执行器或环形缓冲区分发器
+     * Use the executor or ring buffer dispatcher configured in the container
+     */
+    DEFAULT,
+
+    /**
+     * 每个事件一个虚拟线程，适合阻塞在HTTP、JDBC等I/O上的监听器
+     * One virtual thread per event, suitable for listeners blocking on I/O such as HTTP or JDBC
+     */
+    VIRTUAL
+}
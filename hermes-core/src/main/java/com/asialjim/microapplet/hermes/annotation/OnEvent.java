@@ -52,5 +52,59 @@ public @interface OnEvent {
      */
     boolean jvmOnly() default false;
 
+    /**
+     * 是否异步处理事件；批量监听器由自己的凑批线程调用方法，不能同时声明为异步
+     * Whether events are processed asynchronously; batch listeners are invoked by their own batching thread and can
+     * not be declared async as well
+     */
     boolean async() default false;
+
+    /**
+     * 异步监听器的执行方式，仅在{@link #async()}为{@code true}时生效
+     * Execution mode of async listener, only takes effect when {@link #async()} is {@code true}
+     *
+     * @return 执行方式
+     *         Execution mode
+     * @since 2026-01-08
+     */
+    ExecutorType executor() default ExecutorType.DEFAULT;
+
+    /**
+     * 顺序键对应的事件属性名称，仅在{@link #async()}为{@code true}时生效
+     * Name of the event property used as ordering key, only takes effect when {@link #async()} is {@code true}
+     * <pre>
+     *     顺序键相同的事件按发布顺序依次处理，不同顺序键的事件并行处理；
+     *     未配置时，若事件实现了{@link com.asialjim.microapplet.hermes.event.KeyedEvent}，则使用其顺序键
+     *     Events with the same ordering key are processed one after another in publish order, different keys run in parallel;
+     *     when not configured, the key of {@link com.asialjim.microapplet.hermes.event.KeyedEvent} is used if the event implements it
+     * </pre>
+     *
+     * @return 事件属性名称
+     *         Event property name
+     * @since 2026-01-08
+     */
+    String orderKey() default "";
+
+    /**
+     * 批量监听器每批最多处理的事件数量，仅在方法参数为 {@link java.util.List} 或
+     * {@link com.asialjim.microapplet.hermes.event.HermesBatch} 时生效
+     * Maximum number of events per batch, only takes effect when the method parameter is {@link java.util.List} or
+     * {@link com.asialjim.microapplet.hermes.event.HermesBatch}
+     *
+     * @return 每批最多事件数量
+     *         Maximum number of events per batch
+     * @since 2026-01-08
+     */
+    int maxSize() default 100;
+
+    /**
+     * 批量监听器收到第一个事件后最多等待的毫秒数，到期后即使未满也调用方法，仅对批量监听器生效
+     * Maximum milliseconds a batch listener waits after the first event, the method is invoked when it expires even if
+     * the batch is not full, only takes effect for batch listeners
+     *
+     * @return 最长等待毫秒数
+     *         Maximum wait in milliseconds
+     * @since 2026-01-08
+     */
+    long maxWait() default 1000;
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.dispatcher;
+
+import com.asialjim.microapplet.hermes.listener.BaseAsyncListener;
+
+/**
+ * 异步监听器的事件分发器
+ * Event dispatcher for async listeners
+ * <pre>
+ *     {@link BaseAsyncListener} 设置了分发器后，事件交由分发器的工作线程处理，而不再为每个事件向执行器提交任务
+ *     Once a {@link BaseAsyncListener} has a dispatcher, its events are processed by the dispatcher's worker threads
+ *     instead of submitting one task per event to an executor
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+public interface AsyncDispatcher extends AutoCloseable {
+
+    /**
+     * 分发事件到监听器
+     * Dispatch event to listener
+     *
+     * @param listener 异步监听器
+     *                 Async listener
+     * @param id       事件ID，可以为空
+     *                 Event ID, nullable
+     * @param event    事件对象
+     *                 Event object
+     * @param <E>      事件类型
+     *                 Event type
+     * @since 2026-01-08
+     */
+    <E> void dispatch(BaseAsyncListener<E> listener, String id, E event);
+
+    /**
+     * 停止工作线程，已经进入分发器的事件会被处理完毕
+     * Stop worker threads, events already in the dispatcher are processed before stopping
+     *
+     * @since 2026-01-08
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,497 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.dispatcher;
+
+import com.asialjim.microapplet.hermes.listener.BaseAsyncListener;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 基于预分配环形缓冲区的异步分发器
+ * Async dispatcher based on preallocated ring buffers
+ * <pre>
+ *     分发器由若干通道组成，每个通道是一个多生产者、单消费者的环形缓冲区，并拥有一个消费线程：
+ *     1. 缓冲区槽位在创建时分配，事件分发时不再创建任务对象或队列节点
+ *     2. 事件带有顺序键时按顺序键选择通道，顺序键相同的事件按发布顺序处理，不同顺序键的事件并行处理；
+ *        否则同一个监听器的事件总是进入同一个通道，保证单个监听器按发布顺序处理事件
+ *     3. 消费线程每次最多批量取出 batchSize 个事件，批量提交消费进度
+ *     4. 缓冲区写满时生产者等待，每个通道在途事件数不超过缓冲区大小
+ *     5. 消费线程在第一次分发时才启动
+ *     The dispatcher consists of several lanes, each lane is a multi-producer single-consumer ring buffer with its own consumer thread:
+ *     1. Buffer slots are allocated up front, no task object or queue node is created per dispatched event
+ *     2. Events with an ordering key select the lane by key, so events sharing a key are processed in publish order
+ *        while different keys run in parallel; otherwise events of the same listener always go to the same lane,
+ *        so a listener processes events in publish order
+ *     3. The consumer drains at most batchSize events at a time and commits its progress once per batch
+ *     4. Producers wait when the buffer is full, in-flight events per lane never exceed the buffer size
+ *     5. Consumer threads are started on the first dispatch
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Slf4j
+public class RingBufferDispatcher implements AsyncDispatcher {
+    /**
+     * 分发器名称，用于工作线程命名
+     * Dispatcher name, used to name worker threads
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * 等待策略
+     * Wait strategy
+     */
+    @Getter
+    private final WaitStrategy waitStrategy;
+
+    /**
+     * 单次批量处理的最大事件数
+     * Maximum number of events processed per batch
+     */
+    @Getter
+    private final int batchSize;
+
+    /**
+     * 关闭时等待每个通道处理完缓冲区事件的最长毫秒数
+     * Maximum milliseconds to wait for each lane to process its buffered events on close
+     */
+    @Getter
+    private final long closeTimeoutMillis;
+
+    /**
+     * 通道
+     * Lanes
+     */
+    private final Lane[] lanes;
+
+    /**
+     * 是否正在运行
+     * Whether it is running
+     */
+    private volatile boolean running = true;
+
+    /**
+     * 消费线程是否已启动
+     * Whether consumer threads have been started
+     */
+    private volatile boolean started;
+
+    /**
+     * 构建环形缓冲区分发器
+     * Build ring buffer dispatcher
+     *
+     * @param name         分发器名称
+     *                     Dispatcher name
+     * @param lanes        通道（消费线程）数量
+     *                     Number of lanes (consumer threads)
+     * @param bufferSize   每个通道的缓冲区大小，向上取整为2的幂
+     *                     Buffer size of each lane, rounded up to a power of two
+     * @param batchSize    单次批量处理的最大事件数
+     *                     Maximum number of events processed per batch
+     * @param waitStrategy 等待策略
+     *                     Wait strategy
+     * @since 2026-01-08
+     */
+    public RingBufferDispatcher(String name, int lanes, int bufferSize, int batchSize, WaitStrategy waitStrategy) {
+        this(name, lanes, bufferSize, batchSize, waitStrategy, TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * 构建环形缓冲区分发器
+     * Build ring buffer dispatcher
+     *
+     * @param name               分发器名称
+     *                           Dispatcher name
+     * @param lanes              通道（消费线程）数量
+     *                           Number of lanes (consumer threads)
+     * @param bufferSize         每个通道的缓冲区大小，向上取整为2的幂
+     *                           Buffer size of each lane, rounded up to a power of two
+     * @param batchSize          单次批量处理的最大事件数
+     *                           Maximum number of events processed per batch
+     * @param waitStrategy       等待策略
+     *                           Wait strategy
+     * @param closeTimeoutMillis 关闭时等待缓冲区事件处理完毕的最长毫秒数
+     *                           Maximum milliseconds to wait for the buffered events on close
+     * @since 2026-01-08
+     */
+    public RingBufferDispatcher(String name, int lanes, int bufferSize, int batchSize, WaitStrategy waitStrategy,
+                                long closeTimeoutMillis) {
+        if (lanes <= 0)
+            throw new IllegalArgumentException("lanes must be positive: " + lanes);
+        if (bufferSize <= 0 || bufferSize > (1 << 30))
+            throw new IllegalArgumentException("bufferSize must be in (0, 2^30]: " + bufferSize);
+        if (batchSize <= 0)
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+
+        this.name = Objects.requireNonNullElse(name, "hermes");
+        this.waitStrategy = Objects.requireNonNullElse(waitStrategy, WaitStrategy.BLOCKING);
+        this.batchSize = batchSize;
+        this.closeTimeoutMillis = Math.max(0L, closeTimeoutMillis);
+        int capacity = bufferSize == 1 ? 1 : Integer.highestOneBit(bufferSize - 1) << 1;
+        this.lanes = new Lane[lanes];
+        for (int i = 0; i < lanes; i++) {
+            Lane lane = new Lane(capacity);
+            Thread thread = new Thread(lane, "hermes-ring-" + this.name + "-" + i);
+            thread.setDaemon(true);
+            lane.thread = thread;
+            this.lanes[i] = lane;
+        }
+    }
+
+    /**
+     * 启动消费线程
+     * Start consumer threads
+     *
+     * @since 2026-01-08
+     */
+    private synchronized void start() {
+        if (started)
+            return;
+        for (Lane lane : this.lanes) {
+            lane.thread.start();
+        }
+        started = true;
+    }
+
+    /**
+     * 分发事件到监听器所在的通道；分发器关闭后在调用线程上直接处理
+     * Dispatch event to the lane of the listener; processed on the calling thread once the dispatcher is closed
+     * <pre>
+     *     发布前先登记到通道的发布计数，再检查运行状态；通道的消费线程只有在计数归零后才会退出，
+     *     因此检查通过的事件一定会被消费线程处理，不会停留在已退出的通道中
+     *     The publish is registered on the lane's publishing counter before the running state is checked; the lane's
+     *     consumer thread only exits once the counter is zero, so an event that passed the check is always processed
+     *     by the consumer thread and never left in a lane that has exited
+     *     通道的消费线程向自身通道分发时不能等待自己腾出槽位：缓冲区有空位时照常发布，否则在当前线程直接处理
+     *     A lane's consumer thread dispatching to its own lane cannot wait for itself to free a slot: it publishes as
+     *     usual while the buffer has room, otherwise the event is processed inline on the current thread
+     * </pre>
+     *
+     * @param listener 异步监听器
+     *                 Async listener
+     * @param id       事件ID，可以为空
+     *                 Event ID, nullable
+     * @param event    事件对象
+     *                 Event object
+     * @param <E>      事件类型
+     *                 Event type
+     * @since 2026-01-08
+     */
+    @Override
+    public <E> void dispatch(BaseAsyncListener<E> listener, String id, E event) {
+        Lane lane = lanes[lane(listener, event)];
+        lane.publishing.incrementAndGet();
+        try {
+            if (running) {
+                if (!started)
+                    start();
+                if (Thread.currentThread() != lane.thread) {
+                    lane.publish(listener, id, event);
+                    return;
+                }
+                if (lane.tryPublish(listener, id, event))
+                    return;
+            }
+        } finally {
+            lane.publishing.decrementAndGet();
+        }
+        listener.process(id, event);
+    }
+
+    /**
+     * 选择事件所在的通道
+     * Select the lane for the event
+     *
+     * @param listener 异步监听器
+     *                 Async listener
+     * @param event    事件对象
+     *                 Event object
+     * @return 通道下标
+     * Lane index
+     * @since 2026-01-08
+     */
+    protected <E> int lane(BaseAsyncListener<E> listener, E event) {
+        if (lanes.length == 1)
+            return 0;
+        Object key = listener.orderingKey(event);
+        int hash = Objects.isNull(key) ? System.identityHashCode(listener) : key.hashCode();
+        // 扰动哈希值，避免顺序键的低位相同时集中到少数通道
+        hash ^= (hash >>> 16);
+        return (hash & Integer.MAX_VALUE) % lanes.length;
+    }
+
+    /**
+     * 通道数量
+     * Number of lanes
+     *
+     * @return 通道数量
+     * Number of lanes
+     * @since 2026-01-08
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * 每个通道的缓冲区大小
+     * Buffer size of each lane
+     *
+     * @return 缓冲区大小
+     * Buffer size
+     * @since 2026-01-08
+     */
+    public int getBufferSize() {
+        return lanes[0].listeners.length;
+    }
+
+    /**
+     * 各通道中等待处理的事件数
+     * Number of events waiting in each lane
+     *
+     * @return 各通道深度
+     * Depth of each lane
+     * @since 2026-01-08
+     */
+    public long[] getLaneDepths() {
+        long[] depths = new long[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            depths[i] = lanes[i].depth();
+        }
+        return depths;
+    }
+
+    /**
+     * 各通道已处理的事件数
+     * Number of events processed by each lane
+     *
+     * @return 各通道已处理事件数
+     * Processed events of each lane
+     * @since 2026-01-08
+     */
+    public long[] getLaneProcessed() {
+        long[] processed = new long[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            processed[i] = lanes[i].consumed.get() + 1;
+        }
+        return processed;
+    }
+
+    /**
+     * 停止分发器，在 closeTimeoutMillis 内等待消费线程处理完缓冲区中的事件
+     * Stop the dispatcher and wait up to closeTimeoutMillis for consumer threads to process the buffered events
+     *
+     * @since 2026-01-08
+     */
+    @Override
+    public void close() {
+        if (!running)
+            return;
+        running = false;
+        if (!started)
+            return;
+        for (Lane lane : lanes) {
+            LockSupport.unpark(lane.thread);
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(closeTimeoutMillis);
+        for (Lane lane : lanes) {
+            try {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining > 0)
+                    lane.thread.join(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (lane.thread.isAlive())
+                log.warn("Hermes ring buffer dispatcher {} closed with {} events left in lane {}",
+                        name, lane.depth(), lane.thread.getName());
+        }
+        log.info("Hermes ring buffer dispatcher {} closed", name);
+    }
+
+    /**
+     * 多生产者、单消费者的环形缓冲区通道
+     * Ring buffer lane with multiple producers and a single consumer
+     *
+     * @since 2026-01-08
+     */
+    private final class Lane implements Runnable {
+        private final int mask;
+        private final BaseAsyncListener<?>[] listeners;
+        private final String[] ids;
+        private final Object[] events;
+
+        /**
+         * 槽位已发布的序号
+         * Published sequence of each slot
+         */
+        private final AtomicLongArray published;
+
+        /**
+         * 下一个可申请的序号
+         * Next sequence to claim
+         */
+        private final AtomicLong claim = new AtomicLong();
+
+        /**
+         * 已消费的最大序号
+         * Highest consumed sequence
+         */
+        private final AtomicLong consumed = new AtomicLong(-1L);
+
+        /**
+         * 已通过检查、尚未完成发布的生产者数量
+         * Number of producers that passed the check but have not finished publishing
+         */
+        private final AtomicInteger publishing = new AtomicInteger();
+
+        /**
+         * 消费线程是否挂起等待
+         * Whether the consumer thread is parked
+         */
+        private volatile boolean waiting;
+
+        private Thread thread;
+
+        private Lane(int capacity) {
+            this.mask = capacity - 1;
+            this.listeners = new BaseAsyncListener<?>[capacity];
+            this.ids = new String[capacity];
+            this.events = new Object[capacity];
+            this.published = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                this.published.set(i, -1L);
+            }
+        }
+
+        private long depth() {
+            return Math.max(0L, claim.get() - consumed.get() - 1);
+        }
+
+        private void publish(BaseAsyncListener<?> listener, String id, Object event) {
+            long sequence = claim.getAndIncrement();
+            long wrapPoint = sequence - listeners.length;
+            int counter = 0;
+            // 缓冲区已满，等待消费线程腾出槽位
+            while (wrapPoint > consumed.get()) {
+                if (counter++ < 100) Thread.onSpinWait();
+                else LockSupport.parkNanos(1_000L);
+            }
+
+            write(sequence, listener, id, event);
+        }
+
+        /**
+         * 消费线程向自身通道发布，缓冲区已满时不等待
+         * Publish from the consumer thread to its own lane without waiting when the buffer is full
+         *
+         * @return 是否已发布
+         * Whether it was published
+         */
+        private boolean tryPublish(BaseAsyncListener<?> listener, String id, Object event) {
+            while (true) {
+                long sequence = claim.get();
+                // 已消费序号只由当前线程推进，检查期间不会变化
+                if (sequence - listeners.length > consumed.get())
+                    return false;
+                if (claim.compareAndSet(sequence, sequence + 1)) {
+                    write(sequence, listener, id, event);
+                    return true;
+                }
+            }
+        }
+
+        private void write(long sequence, BaseAsyncListener<?> listener, String id, Object event) {
+            int index = (int) (sequence & mask);
+            listeners[index] = listener;
+            ids[index] = id;
+            events[index] = event;
+            published.set(index, sequence);
+
+            if (waiting)
+                LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void run() {
+            long next = 0L;
+            int idle = 0;
+            while (true) {
+                int available = 0;
+                while (available < batchSize && published.get((int) ((next + available) & mask)) == next + available) {
+                    available++;
+                }
+
+                if (available == 0) {
+                    // 先读发布计数再读申请序号：计数归零后不会再有生产者申请序号
+                    if (!running && publishing.get() == 0 && claim.get() <= next)
+                        break;
+                    idle = await(idle, next);
+                    continue;
+                }
+
+                idle = 0;
+                for (int i = 0; i < available; i++) {
+                    int index = (int) ((next + i) & mask);
+                    BaseAsyncListener<?> listener = listeners[index];
+                    String id = ids[index];
+                    Object event = events[index];
+                    listeners[index] = null;
+                    ids[index] = null;
+                    events[index] = null;
+                    process(listener, id, event);
+                }
+                next += available;
+                consumed.set(next - 1);
+            }
+        }
+
+        private int await(int idle, long next) {
+            if (waitStrategy != WaitStrategy.BLOCKING)
+                return waitStrategy.idle(idle);
+
+            waiting = true;
+            try {
+                // 挂起前再次检查，避免错过生产者的唤醒
+                if (running && published.get((int) (next & mask)) != next)
+                    return waitStrategy.idle(idle);
+                return idle;
+            } finally {
+                waiting = false;
+            }
+        }
+
+        private void process(BaseAsyncListener<?> listener, String id, Object event) {
+            try {
+                //noinspection unchecked
+                ((BaseAsyncListener<Object>) listener).process(id, event);
+            } catch (Throwable e) {
+                log.error("Hermes ring buffer dispatcher {} process event {} failure: {}", name, event, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.dispatcher;
+
+import com.asialjim.microapplet.hermes.listener.BaseAsyncListener;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 每个事件一个虚拟线程的异步分发器
+ * Async dispatcher running each event on its own virtual thread
+ * <pre>
+ *     通过信号量限制同时处理的事件数，达到上限时生产者等待，避免无限制地创建虚拟线程；
+ *     适合阻塞在HTTP、JDBC等I/O上的监听器，无需调整线程池大小即可支撑大量并发事件
+ *     A semaphore caps the number of events processed concurrently, producers wait when the cap is reached
+ *     so virtual threads are not created without bound; suitable for listeners blocking on I/O such as HTTP or JDBC,
+ *     which can then keep many events in flight without pool tuning
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Slf4j
+public class VirtualThreadDispatcher implements AsyncDispatcher {
+    /**
+     * 分发器名称，用于虚拟线程命名
+     * Dispatcher name, used to name virtual threads
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * 最大并发事件数
+     * Maximum number of concurrent events
+     */
+    @Getter
+    private final int maxConcurrency;
+
+    /**
+     * 关闭时等待正在处理的事件完成的最长毫秒数
+     * Maximum milliseconds to wait for in-flight events on close
+     */
+    @Getter
+    private final long closeTimeoutMillis;
+
+    private final Semaphore permits;
+    private final ThreadFactory threadFactory;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 已通过运行检查、尚未启动虚拟线程的生产者数量
+     * Number of producers that passed the running check but have not started their virtual thread
+     */
+    private final AtomicInteger admitting = new AtomicInteger();
+
+    /**
+     * 是否正在运行
+     * Whether it is running
+     */
+    private volatile boolean running = true;
+
+    /**
+     * 构建虚拟线程分发器
+     * Build virtual thread dispatcher
+     *
+     * @param name           分发器名称
+     *                       Dispatcher name
+     * @param maxConcurrency 最大并发事件数
+     *                       Maximum number of concurrent events
+     * @since 2026-01-08
+     */
+    public VirtualThreadDispatcher(String name, int maxConcurrency) {
+        this(name, maxConcurrency, TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * 构建虚拟线程分发器
+     * Build virtual thread dispatcher
+     *
+     * @param name               分发器名称
+     *                           Dispatcher name
+     * @param maxConcurrency     最大并发事件数
+     *                           Maximum number of concurrent events
+     * @param closeTimeoutMillis 关闭时等待正在处理的事件完成的最长毫秒数
+     *                           Maximum milliseconds to wait for in-flight events on close
+     * @since 2026-01-08
+     */
+    public VirtualThreadDispatcher(String name, int maxConcurrency, long closeTimeoutMillis) {
+        if (maxConcurrency <= 0)
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.closeTimeoutMillis = Math.max(0L, closeTimeoutMillis);
+        this.permits = new Semaphore(maxConcurrency);
+        this.threadFactory = Thread.ofVirtual().name("hermes-vt-" + name + "-", 0).factory();
+    }
+
+    /**
+     * 在新的虚拟线程上处理事件；达到并发上限时等待，分发器关闭或等待被中断时在调用线程上直接处理
+     * Process the event on a new virtual thread; waits when the concurrency cap is reached,
+     * processed on the calling thread once the dispatcher is closed or the wait is interrupted
+     * <pre>
+     *     先登记到准入计数，再检查运行状态；关闭时等待计数归零后才等待全部许可，
+     *     因此检查通过的事件一定在关闭等待的范围内，不会在关闭返回后才启动
+     *     The dispatch is registered on the admission counter before the running state is checked; close waits for the
+     *     counter to reach zero before waiting for all permits, so an event that passed the check is always covered by
+     *     the close wait and never starts after close returned
+     * </pre>
+     *
+     * @param listener 异步监听器
+     *                 Async listener
+     * @param id       事件ID，可以为空
+     *                 Event ID, nullable
+     * @param event    事件对象
+     *                 Event object
+     * @param <E>      事件类型
+     *                 Event type
+     * @since 2026-01-08
+     */
+    @Override
+    public <E> void dispatch(BaseAsyncListener<E> listener, String id, E event) {
+        admitting.incrementAndGet();
+        try {
+            if (running && acquire()) {
+                submitted.increment();
+                threadFactory.newThread(() -> run(listener, id, event)).start();
+                return;
+            }
+            rejected.increment();
+        } catch (Throwable e) {
+            permits.release();
+            failed.increment();
+            log.error("Hermes virtual thread dispatcher {} start thread failure: {}", name, e.getMessage(), e);
+        } finally {
+            admitting.decrementAndGet();
+        }
+        listener.process(id, event);
+    }
+
+    private boolean acquire() {
+        try {
+            permits.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private <E> void run(BaseAsyncListener<E> listener, String id, E event) {
+        try {
+            listener.process(id, event);
+            completed.increment();
+        } catch (Throwable e) {
+            failed.increment();
+            log.error("Hermes virtual thread dispatcher {} process event {} failure: {}", name, event, e.getMessage(), e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 已提交到虚拟线程的事件数
+     * Number of events submitted to virtual threads
+     *
+     * @return 事件数
+     * Number of events
+     * @since 2026-01-08
+     */
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    /**
+     * 已处理完成的事件数
+     * Number of completed events
+     *
+     * @return 事件数
+     * Number of events
+     * @since 2026-01-08
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * 处理失败的事件数
+     * Number of failed events
+     *
+     * @return 事件数
+     * Number of events
+     * @since 2026-01-08
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * 未进入虚拟线程、在调用线程上处理的事件数
+     * Number of events processed on the calling thread instead of a virtual thread
+     *
+     * @return 事件数
+     * Number of events
+     * @since 2026-01-08
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * 正在处理的事件数
+     * Number of events in flight
+     *
+     * @return 事件数
+     * Number of events
+     * @since 2026-01-08
+     */
+    public int getInFlight() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * 停止分发新事件，在 closeTimeoutMillis 内等待已准入与正在处理的事件完成
+     * Stop dispatching new events and wait up to closeTimeoutMillis for admitted and in-flight events to complete
+     *
+     * @since 2026-01-08
+     */
+    @Override
+    public void close() {
+        if (!running)
+            return;
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(closeTimeoutMillis);
+        // 已准入的生产者可能正在等待许可，先等待其启动虚拟线程
+        while (admitting.get() > 0 && deadline - System.nanoTime() > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        try {
+            long remaining = Math.max(0L, deadline - System.nanoTime());
+            if (permits.tryAcquire(maxConcurrency, remaining, TimeUnit.NANOSECONDS))
+                permits.release(maxConcurrency);
+            else
+                log.warn("Hermes virtual thread dispatcher {} closed with {} events in flight", name, getInFlight());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Hermes virtual thread dispatcher {} closed, submitted: {}, completed: {}, failed: {}",
+                name, getSubmitted(), getCompleted(), getFailed());
+    }
+}
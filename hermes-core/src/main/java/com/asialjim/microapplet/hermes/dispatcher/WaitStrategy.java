@@ -0,0 +1,92 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.dispatcher;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 环形缓冲区消费线程的等待策略
+ * Wait strategy of the ring buffer consumer thread
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+public enum WaitStrategy {
+    /**
+     * 无事件时挂起线程，由生产者唤醒；CPU占用最低，延迟最高
+     * Park the thread when idle and let producers wake it up; lowest CPU usage, highest latency
+     */
+    BLOCKING,
+
+    /**
+     * 先自旋，再让出CPU，最后短暂休眠
+     * Spin first, then yield, finally sleep briefly
+     */
+    SLEEPING,
+
+    /**
+     * 先自旋，再让出CPU
+     * Spin first, then yield
+     */
+    YIELDING,
+
+    /**
+     * 始终自旋；延迟最低，独占一个CPU核心
+     * Always spin; lowest latency, occupies a whole CPU core
+     */
+    BUSY_SPIN;
+
+    /**
+     * 自旋次数上限
+     * Spin limit
+     */
+    private static final int SPIN_TRIES = 100;
+
+    /**
+     * 让出CPU次数上限
+     * Yield limit
+     */
+    private static final int YIELD_TRIES = 200;
+
+    /**
+     * 空闲时等待一次
+     * Wait once while idle
+     *
+     * @param counter 连续空闲次数
+     *                Consecutive idle count
+     * @return 新的连续空闲次数
+     * New consecutive idle count
+     * @since 2026-01-08
+     */
+    int idle(int counter) {
+        switch (this) {
+            case BUSY_SPIN -> Thread.onSpinWait();
+            case YIELDING -> {
+                if (counter < SPIN_TRIES) Thread.onSpinWait();
+                else Thread.yield();
+            }
+            case SLEEPING -> {
+                if (counter < SPIN_TRIES) Thread.onSpinWait();
+                else if (counter < YIELD_TRIES) Thread.yield();
+                else LockSupport.parkNanos(100_000L);
+            }
+            case BLOCKING -> LockSupport.parkNanos(this, 1_000_000L);
+        }
+        return counter == Integer.MAX_VALUE ? counter : counter + 1;
+    }
+}
@@ -17,6 +17,8 @@
 package com.asialjim.microapplet.hermes.event;
 
 import com.asialjim.microapplet.hermes.HermesService;
+import com.asialjim.microapplet.hermes.listener.HermesDelivery;
+import com.asialjim.microapplet.hermes.listener.HermesProducer;
 import com.asialjim.microapplet.hermes.listener.JvmOnlyListener;
 import com.asialjim.microapplet.hermes.listener.Listener;
 import com.asialjim.microapplet.hermes.provider.HermesRepository;
@@ -27,7 +29,12 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 事件总线
@@ -40,11 +47,44 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class EventBus {
-    private static final Map<Type, TreeSet<Listener<?>>> listenerHub = new ConcurrentHashMap<>();
-    private static final Set<Listener<?>> globalListeners = new TreeSet<>();
-    private static final Set<Listener<?>> hadRegister = new HashSet<>();
+    /**
+     * 空监听器快照
+     * Empty listener snapshot
+     */
+    private static final Listener<?>[] EMPTY = new Listener<?>[0];
+
+    /**
+     * 事件类型 -> 按执行顺序排好序的不可变监听器快照，注册/注销时整体替换，发布时无锁读取
+     * Event type -> immutable listener snapshot sorted by order, replaced as a whole on (un)register, read lock-free on publish
+     */
+    private static final Map<Type, Listener<?>[]> listenerHub = new ConcurrentHashMap<>();
+
+    /**
+     * 全局监听器快照，写入时在 {@link EventBus} 类锁内整体替换
+     * Global listener snapshot, replaced as a whole under the {@link EventBus} class lock
+     */
+    private static volatile Listener<?>[] globalListeners = EMPTY;
+
+    /**
+     * 事件具体类型 -> 该类型全部父类与接口上的监听器合并排序后的结果，注册/注销时整体失效
+     * Concrete event class -> merged and sorted listeners of all its supertypes and interfaces, invalidated as a whole on (un)register
+     */
+    private static volatile ClassValue<Listener<?>[]> dispatchCache = newDispatchCache();
+    /**
+     * 并行分发执行器，为空时按顺序依次执行监听器
+     * Fan-out executor, listeners run one after another when it is null
+     */
+    private static volatile Executor fanOutExecutor;
+
+    /**
+     * 异步发布执行器，为空时使用每个任务一个虚拟线程的默认执行器
+     * Async publish executor, the default virtual-thread-per-task executor is used when it is null
+     */
+    private static volatile Executor asyncExecutor;
+
+    private static final Set<Listener<?>> hadRegister = ConcurrentHashMap.newKeySet();
     // 各服务都关心哪些事件？
-    private static final Map<String, Set<String>> serviceSubTypes = new HashMap<>();
+    private static final Map<String, Set<String>> serviceSubTypes = new ConcurrentHashMap<>();
 
     /**
      * 注册监听器到Hermes注册表
@@ -65,7 +105,7 @@ public class EventBus {
         final Map<Type, Set<String>> serviceMapGroupByType = new HashMap<>();
         listenerHub.values()
                 .stream()
-                .flatMap(Collection::stream)
+                .flatMap(Arrays::stream)
                 // 本地监听器不应注册到注册表
                 .filter(item -> !(item instanceof JvmOnlyListener<?>))
                 .peek(item -> {
@@ -78,7 +118,7 @@ public class EventBus {
                     if (StringUtils.isBlank(name))
                         return;
 
-                    Set<String> typeNames = serviceSubTypes.computeIfAbsent(name, s -> new HashSet<>());
+                    Set<String> typeNames = serviceSubTypes.computeIfAbsent(name, s -> ConcurrentHashMap.newKeySet());
 
                     types.stream()
                             .filter(Objects::nonNull)
@@ -123,20 +163,224 @@ public class EventBus {
 
 
         // 向全局监听器推送事件
-        if (push2global) {
-            for (Listener<?> listener : globalListeners) {
+        if (push2global)
+            dispatch(id, event, globalListeners);
+
+        // 向指定监听器推送事件
+        dispatch(id, event, dispatchCache.get(event.getClass()));
+    }
+
+    /**
+     * 批量发布事件
+     * Publish a batch of events
+     * <pre>
+     *     全局监听器（如 {@link com.asialjim.microapplet.hermes.listener.HermesProducer}）通过
+     *     {@link Listener#onEvents(Collection)} 一次性接收整批事件，可以合并路由查询、持久化与通知；
+     *     其余监听器按事件逐个分发，与{@link #push(Object)}一致
+     *     Global listeners (such as {@link com.asialjim.microapplet.hermes.listener.HermesProducer}) receive the whole batch
+     *     at once through {@link Listener#onEvents(Collection)}, so routing lookups, persistence and notifications can be merged;
+     *     other listeners are dispatched event by event, the same as {@link #push(Object)}
+     * </pre>
+     *
+     * @param events 事件集合
+     *               Event collection
+     * @since 2026-01-08
+     */
+    public static void pushAll(Collection<?> events) {
+        if (Objects.isNull(events) || events.isEmpty()) return;
+        List<Object> batch = new ArrayList<>(events.size());
+        for (Object event : events) {
+            if (Objects.nonNull(event))
+                batch.add(event);
+        }
+        if (batch.isEmpty()) return;
+
+        for (Listener<?> listener : globalListeners) {
+            //noinspection unchecked
+            ((Listener<Object>) listener).onEvents(batch);
+        }
+
+        for (Object event : batch) {
+            dispatch(null, event, dispatchCache.get(event.getClass()));
+        }
+    }
+
+    /**
+     * 异步发布事件并返回发布回执
+     * Publish event asynchronously and return the publish receipt
+     * <pre>
+     *     事件的持久化与本地监听器均在异步执行器上执行，调用线程立即返回；
+     *     持久化失败时返回的 Future 以异常完成，本地监听器仍然会收到事件
+     *     Persistence and local listeners both run on the async executor, the calling thread returns immediately;
+     *     the returned future completes exceptionally when persistence fails, local listeners still receive the event
+     * </pre>
+     *
+     * @param event 事件对象
+     *              Event object
+     * @param <E>   事件类型
+     *              Event type
+     * @return 发布回执
+     * Publish receipt
+     * @since 2026-01-08
+     */
+    public static <E> CompletableFuture<HermesReceipt> pushAsync(E event) {
+        if (Objects.isNull(event))
+            return CompletableFuture.failedFuture(new IllegalArgumentException("event can not be null"));
+
+        Executor executor = Objects.requireNonNullElse(asyncExecutor, AsyncHolder.EXECUTOR);
+        return CompletableFuture.supplyAsync(() -> doPushAsync(event), executor);
+    }
+
+    /**
+     * 设置异步发布执行器
+     * Set async publish executor
+     *
+     * @param executor 异步发布执行器，为{@code null}时恢复为默认的虚拟线程执行器
+     *                 Async publish executor, {@code null} restores the default virtual thread executor
+     * @since 2026-01-08
+     */
+    public static void asyncExecutor(Executor executor) {
+        asyncExecutor = executor;
+    }
+
+    /**
+     * 发布事件，由 {@link HermesProducer} 持久化并返回回执，其余监听器照常分发
+     * Publish event, persisted by {@link HermesProducer} which returns the receipt, other listeners are dispatched as usual
+     *
+     * @param event 事件对象
+     *              Event object
+     * @param <E>   事件类型
+     *              Event type
+     * @return 发布回执
+     * Publish receipt
+     * @since 2026-01-08
+     */
+    private static <E> HermesReceipt doPushAsync(E event) {
+        HermesReceipt receipt = null;
+        RuntimeException failure = null;
+        for (Listener<?> listener : globalListeners) {
+            if (listener instanceof HermesProducer producer) {
+                try {
+                    receipt = producer.produce(event);
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+            } else {
+                //noinspection unchecked
+                doPush(null, event, (Listener<E>) listener);
+            }
+        }
+
+        dispatch(null, event, dispatchCache.get(event.getClass()));
+
+        if (Objects.nonNull(failure))
+            throw failure;
+        if (Objects.nonNull(receipt))
+            return receipt;
+        return new HermesReceipt().setType(event.getClass().getTypeName());
+    }
+
+    /**
+     * 设置并行分发执行器
+     * Set fan-out executor
+     * <pre>
+     *     设置后，执行顺序相同的监听器并行执行，不同执行顺序的监听器分组依次执行，前一组全部完成后才执行下一组；
+     *     并行执行的监听器运行在不同线程上，依赖线程上下文（如事务）的监听器应使用不同的执行顺序
+     *     Once set, listeners sharing the same order run concurrently, groups of different order run one after another,
+     *     each group acts as a barrier for the next; concurrently running listeners are on different threads,
+     *     listeners relying on thread context (e.g. transactions) should use distinct orders
+     * </pre>
+     *
+     * @param executor 并行分发执行器，为{@code null}时恢复为顺序执行
+     *                 Fan-out executor, {@code null} restores sequential dispatch
+     * @since 2026-01-08
+     */
+    public static void fanOut(Executor executor) {
+        fanOutExecutor = executor;
+    }
+
+    /**
+     * 向一组按执行顺序排好序的监听器分发事件
+     * Dispatch event to listeners sorted by order
+     *
+     * @param id        事件ID
+     *                  Event ID
+     * @param event     事件对象
+     *                  Event object
+     * @param listeners 监听器快照
+     *                  Listener snapshot
+     * @param <E>       事件类型
+     *                  Event type
+     * @since 2026-01-08
+     */
+    private static <E> void dispatch(String id, E event, Listener<?>[] listeners) {
+        Executor executor = fanOutExecutor;
+        int length = listeners.length;
+        if (Objects.isNull(executor) || length < 2) {
+            for (Listener<?> listener : listeners) {
                 //noinspection unchecked
                 doPush(id, event, (Listener<E>) listener);
             }
+            return;
         }
 
-        TreeSet<Listener<?>> listeners = listenerHub.get(event.getClass());
-        if (Objects.isNull(listeners)) return;
+        int start = 0;
+        while (start < length) {
+            int order = listeners[start].getOrder();
+            int end = start + 1;
+            while (end < length && listeners[end].getOrder() == order) end++;
 
-        // 向指定监听器推送事件
-        for (Listener<?> listener : listeners) {
+            if (end - start == 1)
+                //noinspection unchecked
+                doPush(id, event, (Listener<E>) listeners[start]);
+            else
+                fanOut(id, event, listeners, start, end, executor);
+            start = end;
+        }
+    }
+
+    /**
+     * 并行执行同一执行顺序的一组监听器，全部完成后返回
+     * Run a group of listeners sharing the same order concurrently, return when all of them complete
+     *
+     * @param id        事件ID
+     *                  Event ID
+     * @param event     事件对象
+     *                  Event object
+     * @param listeners 监听器快照
+     *                  Listener snapshot
+     * @param start     组起始下标（包含）
+     *                  Group start index (inclusive)
+     * @param end       组结束下标（不包含）
+     *                  Group end index (exclusive)
+     * @param executor  并行分发执行器
+     *                  Fan-out executor
+     * @param <E>       事件类型
+     *                  Event type
+     * @since 2026-01-08
+     */
+    private static <E> void fanOut(String id, E event, Listener<?>[] listeners, int start, int end, Executor executor) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[end - start - 1];
+        HermesDelivery delivery = HermesDelivery.current();
+        for (int i = start + 1; i < end; i++) {
             //noinspection unchecked
-            doPush(id, event, (Listener<E>) listener);
+            Listener<E> listener = (Listener<E>) listeners[i];
+            try {
+                futures[i - start - 1] = CompletableFuture.runAsync(
+                        () -> HermesDelivery.run(delivery, () -> doPush(id, event, listener)), executor);
+            } catch (RejectedExecutionException e) {
+                doPush(id, event, listener);
+                futures[i - start - 1] = CompletableFuture.completedFuture(null);
+            }
+        }
+
+        // 组内第一个监听器在当前线程执行
+        //noinspection unchecked
+        doPush(id, event, (Listener<E>) listeners[start]);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            log.error("事件[{}]并行分发异常:{}", event, e.getMessage(), e.getCause());
         }
     }
 
@@ -195,6 +439,11 @@ public class EventBus {
     /**
      * 注册监听器到事件总线
      * Register listener to event bus
+     * <pre>
+     *     注册过程通过写时复制生成新的有序快照并原子替换，正在发布的事件继续使用旧快照，互不影响
+     *     Registration builds a new sorted snapshot by copy-on-write and swaps it atomically,
+     *     events being published keep iterating the old snapshot
+     * </pre>
      *
      * @param listener 监听器实例
      *                 Listener instance
@@ -203,28 +452,219 @@ public class EventBus {
     public static void register(Listener<?> listener) {
         if (Objects.isNull(listener)) return;
         boolean globalListener = listener.globalListener();
-        if (globalListener) globalListeners.add(listener);
+        if (globalListener) {
+            synchronized (EventBus.class) {
+                globalListeners = insert(globalListeners, listener);
+            }
+        }
 
         Set<Type> types = listener.eventType();
+        if (Objects.isNull(types)) return;
         for (Type type : types) {
-            if (Objects.isNull(type)) return;
-
-            if (!StringUtils.startsWith(type.toString(), "class")) return;
-
-            TreeSet<Listener<?>> listeners = listenerHub.get(type);
-            if (Objects.isNull(listeners)) {
-                synchronized (listenerHub) {
-                    //noinspection ConstantValue
-                    if (Objects.isNull(listeners)) {
-                        listeners = new TreeSet<>(Comparator.comparingInt(Listener::getOrder));
-                        listenerHub.put(type, listeners);
-                    }
-                }
-            }
+            if (Objects.isNull(type)) continue;
+
+            // 仅支持具体的类或接口，泛型参数化类型不参与分发
+            if (!(type instanceof Class<?>)) continue;
+
             if (log.isDebugEnabled())
                 log.info("事件总线注册事件：{} 监听器：{}", type, listener);
-            listeners.add(listener);
+            listenerHub.compute(type, (key, listeners) -> insert(listeners, listener));
+        }
+        dispatchCache = newDispatchCache();
+    }
+
+    /**
+     * 从事件总线注销监听器
+     * Unregister listener from event bus
+     *
+     * @param listener 监听器实例
+     *                 Listener instance
+     * @since 2026-01-08
+     */
+    public static void unregister(Listener<?> listener) {
+        if (Objects.isNull(listener)) return;
+        synchronized (EventBus.class) {
+            globalListeners = remove(globalListeners, listener);
         }
+
+        Set<Type> types = listener.eventType();
+        if (Objects.isNull(types)) return;
+        for (Type type : types) {
+            if (Objects.isNull(type)) continue;
+
+            listenerHub.computeIfPresent(type, (key, listeners) -> {
+                Listener<?>[] res = remove(listeners, listener);
+                return res.length == 0 ? null : res;
+            });
+        }
+        hadRegister.remove(listener);
+        dispatchCache = newDispatchCache();
     }
 
-}
\ No newline at end of file
+    /**
+     * 排空已注册监听器的异步队列
+     * Drain the asynchronous queues of registered listeners
+     * <pre>
+     *     关闭所有实现了 {@link AutoCloseable} 的监听器（异步分发器、批量监听器），等待已进入队列的事件处理完毕；
+     *     关闭后分发到这些监听器的事件在调用线程上同步处理或直接失败，由补偿消费重新处理
+     *     Close every listener implementing {@link AutoCloseable} (async dispatchers, batch listeners) and wait for the
+     *     queued events to be processed; events dispatched to them afterwards are processed synchronously on the calling
+     *     thread or fail directly, to be handled again by compensation consumption
+     * </pre>
+     *
+     * @since 2026-01-08
+     */
+    public static void drain() {
+        Set<Listener<?>> listeners = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(listeners, globalListeners);
+        for (Listener<?>[] items : listenerHub.values()) {
+            Collections.addAll(listeners, items);
+        }
+
+        for (Listener<?> listener : listeners) {
+            if (!(listener instanceof AutoCloseable closeable))
+                continue;
+            try {
+                closeable.close();
+            } catch (Throwable e) {
+                log.warn("Drain listener {} failure: {}", listener, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 创建新的分发缓存，旧缓存随引用替换一并失效
+     * Create a new dispatch cache, the old one is invalidated by replacing the reference
+     *
+     * @return 分发缓存
+     * Dispatch cache
+     * @since 2026-01-08
+     */
+    private static ClassValue<Listener<?>[]> newDispatchCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Listener<?>[] computeValue(Class<?> type) {
+                return resolve(type);
+            }
+        };
+    }
+
+    /**
+     * 解析指定事件类型需要分发的监听器
+     * Resolve the listeners an event of the given class should be dispatched to
+     * <pre>
+     *     依次收集事件类型本身、全部父类以及全部接口上注册的监听器，去重后按执行顺序稳定排序；
+     *     {@link Object} 上的监听器由全局监听器负责，不参与解析
+     *     Collect listeners registered on the class itself, all superclasses and all interfaces,
+     *     de-duplicate and stable sort them by order; listeners on {@link Object} are served as global listeners
+     * </pre>
+     *
+     * @param type 事件具体类型
+     *             Concrete event class
+     * @return 合并后的监听器
+     * Merged listeners
+     * @since 2026-01-08
+     */
+    private static Listener<?>[] resolve(Class<?> type) {
+        if (Object.class.equals(type))
+            return listenerHub.getOrDefault(type, EMPTY);
+
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        for (Class<?> clazz = type; Objects.nonNull(clazz) && !Object.class.equals(clazz); clazz = clazz.getSuperclass()) {
+            hierarchy.add(clazz);
+        }
+        Deque<Class<?>> interfaces = new ArrayDeque<>(hierarchy);
+        while (!interfaces.isEmpty()) {
+            for (Class<?> item : interfaces.poll().getInterfaces()) {
+                if (hierarchy.add(item))
+                    interfaces.add(item);
+            }
+        }
+
+        Set<Listener<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Listener<?>> res = new ArrayList<>();
+        for (Class<?> clazz : hierarchy) {
+            Listener<?>[] listeners = listenerHub.get(clazz);
+            if (Objects.isNull(listeners))
+                continue;
+            for (Listener<?> listener : listeners) {
+                if (visited.add(listener))
+                    res.add(listener);
+            }
+        }
+        if (res.isEmpty())
+            return EMPTY;
+
+        res.sort(Comparator.comparingInt(Listener::getOrder));
+        return res.toArray(EMPTY);
+    }
+
+    /**
+     * 复制快照并按执行顺序插入监听器，相同顺序的监听器保持注册先后
+     * Copy the snapshot and insert the listener by order, listeners with the same order keep registration order
+     *
+     * @param listeners 原快照
+     *                  Original snapshot
+     * @param listener  待插入的监听器
+     *                  Listener to insert
+     * @return 新快照
+     * New snapshot
+     * @since 2026-01-08
+     */
+    private static Listener<?>[] insert(Listener<?>[] listeners, Listener<?> listener) {
+        if (Objects.isNull(listeners)) listeners = EMPTY;
+        for (Listener<?> item : listeners) {
+            if (item == listener) return listeners;
+        }
+
+        int order = listener.getOrder();
+        int index = listeners.length;
+        while (index > 0 && listeners[index - 1].getOrder() > order) index--;
+
+        Listener<?>[] res = new Listener<?>[listeners.length + 1];
+        System.arraycopy(listeners, 0, res, 0, index);
+        res[index] = listener;
+        System.arraycopy(listeners, index, res, index + 1, listeners.length - index);
+        return res;
+    }
+
+    /**
+     * 复制快照并移除监听器
+     * Copy the snapshot and remove the listener
+     *
+     * @param listeners 原快照
+     *                  Original snapshot
+     * @param listener  待移除的监听器
+     *                  Listener to remove
+     * @return 新快照，未包含该监听器时返回原快照
+     * New snapshot, the original one if the listener was absent
+     * @since 2026-01-08
+     */
+    private static Listener<?>[] remove(Listener<?>[] listeners, Listener<?> listener) {
+        int index = -1;
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) return listeners;
+        if (listeners.length == 1) return EMPTY;
+
+        Listener<?>[] res = new Listener<?>[listeners.length - 1];
+        System.arraycopy(listeners, 0, res, 0, index);
+        System.arraycopy(listeners, index + 1, res, index, listeners.length - index - 1);
+        return res;
+    }
+
+    /**
+     * 默认异步发布执行器，首次使用时创建
+     * Default async publish executor, created on first use
+     *
+     * @since 2026-01-08
+     */
+    private static final class AsyncHolder {
+        private static final Executor EXECUTOR = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("hermes-push-async-", 0).factory());
+    }
+}
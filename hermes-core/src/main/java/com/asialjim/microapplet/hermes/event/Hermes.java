@@ -143,4 +143,32 @@ public final class Hermes<E> implements Serializable {
      * Current status of the event, used to track event processing progress
      */
     private String status;
+
+    /**
+     * 将事件包装为 Hermes，已经是 Hermes 的事件原样返回
+     * Wrap event as Hermes, an event that is already a Hermes is returned as is
+     * <pre>
+     *     新包装的事件默认为全局事件，发送时间为当前时间
+     *     A newly wrapped event is global by default and its send time is now
+     * </pre>
+     *
+     * @param event 事件对象
+     *              Event object
+     * @param <E>   事件类型
+     *              Event type
+     * @return 包装后的Hermes事件
+     *         Wrapped Hermes event
+     * @since 2026-01-08
+     */
+    public static <E> Hermes<E> of(E event) {
+        if (event instanceof Hermes<?> hermes)
+            //noinspection unchecked
+            return (Hermes<E>) hermes;
+
+        return new Hermes<E>()
+                .setGlobal(true)
+                .setSendTime(LocalDateTime.now())
+                .setType(event.getClass().getTypeName())
+                .setData(event);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.event;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 批量监听器一次收到的一批事件
+ * A batch of events received by a batch listener at once
+ * <pre>
+ *     被 {@link com.asialjim.microapplet.hermes.annotation.OnEvent} 标记的方法以此作为参数时，可以同时获取事件编号等元数据；
+ *     只需要事件内容时可直接使用 {@link List} 作为参数
+ *     Methods marked with {@link com.asialjim.microapplet.hermes.annotation.OnEvent} taking this as the parameter
+ *     can also read metadata such as the event ID; use {@link List} as the parameter when only the event content is needed
+ * </pre>
+ *
+ * @param <E> 事件数据的类型
+ *            The type of event data
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Getter
+public final class HermesBatch<E> implements Iterable<E> {
+    /**
+     * 按到达顺序排列的事件
+     * Events in arrival order
+     */
+    private final List<Hermes<E>> events;
+
+    /**
+     * 按到达顺序排列的事件内容
+     * Event contents in arrival order
+     */
+    private final List<E> data;
+
+    /**
+     * 构造函数
+     * Constructor
+     *
+     * @param events 按到达顺序排列的事件
+     *               Events in arrival order
+     * @since 2026-01-08
+     */
+    public HermesBatch(List<Hermes<E>> events) {
+        this.events = Collections.unmodifiableList(events);
+        List<E> data = new ArrayList<>(events.size());
+        for (Hermes<E> event : events) {
+            data.add(event.getData());
+        }
+        this.data = Collections.unmodifiableList(data);
+    }
+
+    /**
+     * 获取本批事件数量
+     * Get the number of events in this batch
+     *
+     * @return 事件数量
+     * Number of events
+     * @since 2026-01-08
+     */
+    public int size() {
+        return this.events.size();
+    }
+
+    /**
+     * 按到达顺序遍历事件内容
+     * Iterate the event contents in arrival order
+     *
+     * @return 事件内容迭代器
+     * Iterator of event contents
+     * @since 2026-01-08
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return this.data.iterator();
+    }
+}
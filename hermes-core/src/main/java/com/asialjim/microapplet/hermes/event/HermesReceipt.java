@@ -0,0 +1,67 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.event;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 事件发布回执
+ * Event publish receipt
+ * <pre>
+ *     由{@link EventBus#pushAsync(Object)}返回，用于确认事件是否已经持久化到事件编目
+ *     Returned by {@link EventBus#pushAsync(Object)}, used to confirm whether the event has been persisted to the event catalog
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Data
+@Accessors(chain = true)
+public final class HermesReceipt implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -2304719268745583402L;
+
+    /**
+     * 事件编号，未持久化时为空
+     * Event ID, null when not persisted
+     */
+    private String id;
+
+    /**
+     * 事件类型名称
+     * Event type name
+     */
+    private String type;
+
+    /**
+     * 是否已持久化；非全局事件或没有服务订阅的事件不会持久化
+     * Whether it has been persisted; non-global events and events without subscribers are not persisted
+     */
+    private boolean persisted;
+
+    /**
+     * 持久化完成时间
+     * Persistence completion time
+     */
+    private LocalDateTime persistTime;
+}
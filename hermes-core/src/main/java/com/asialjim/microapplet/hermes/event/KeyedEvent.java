@@ -0,0 +1,43 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.event;
+
+/**
+ * 带顺序键的事件
+ * Event with an ordering key
+ * <pre>
+ *     异步监听器处理实现了此接口的事件时，顺序键相同的事件按发布顺序依次处理，顺序键不同的事件并行处理
+ *     When an async listener processes events implementing this interface, events with the same ordering key
+ *     are processed one after another in publish order, events with different keys are processed in parallel
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+public interface KeyedEvent {
+
+    /**
+     * 获取顺序键，例如订单编号
+     * Get the ordering key, such as the order id
+     *
+     * @return 顺序键，返回{@code null}时不保证顺序
+     * Ordering key, no ordering is guaranteed when {@code null} is returned
+     * @since 2026-01-08
+     */
+    Object orderingKey();
+}
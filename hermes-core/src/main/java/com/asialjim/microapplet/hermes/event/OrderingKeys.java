@@ -0,0 +1,100 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.event;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 顺序键提取器工具
+ * Ordering key extractor utility
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+public final class OrderingKeys {
+
+    private OrderingKeys() {
+    }
+
+    /**
+     * 为事件类型的属性创建顺序键提取器
+     * Create an ordering key extractor for a property of the event type
+     * <pre>
+     *     依次查找 getXxx()、isXxx()、xxx() 三种无参公共方法，兼容普通 JavaBean 与 record
+     *     Looks up the public no-arg methods getXxx(), isXxx() and xxx() in turn, supports both JavaBeans and records
+     * </pre>
+     *
+     * @param eventType 事件类型
+     *                  Event type
+     * @param property  属性名称
+     *                  Property name
+     * @return 顺序键提取器，属性名称为空时返回{@code null}
+     * Ordering key extractor, {@code null} when the property name is blank
+     * @throws IllegalStateException 事件类型中不存在该属性时
+     *                               When the event type has no such property
+     * @since 2026-01-08
+     */
+    public static Function<Object, Object> of(Class<?> eventType, String property) {
+        if (Objects.isNull(eventType) || StringUtils.isBlank(property))
+            return null;
+
+        String capitalized = StringUtils.capitalize(property);
+        for (String name : new String[]{"get" + capitalized, "is" + capitalized, property}) {
+            Method method = accessor(eventType, name);
+            if (Objects.isNull(method))
+                continue;
+
+            try {
+                MethodHandle handle = MethodHandles.publicLookup()
+                        .unreflect(method)
+                        .asType(MethodType.methodType(Object.class, Object.class));
+                return event -> {
+                    try {
+                        return handle.invokeExact(event);
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new IllegalStateException(e);
+                    }
+                };
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Ordering key " + property + " of " + eventType + " is not accessible", e);
+            }
+        }
+        throw new IllegalStateException("Ordering key " + property + " not found in " + eventType);
+    }
+
+    private static Method accessor(Class<?> eventType, String name) {
+        try {
+            Method method = eventType.getMethod(name);
+            if (Modifier.isStatic(method.getModifiers()) || void.class.equals(method.getReturnType()))
+                return null;
+            return method;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
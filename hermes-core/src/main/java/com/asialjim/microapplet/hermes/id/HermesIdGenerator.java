@@ -0,0 +1,46 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.id;
+
+/**
+ * Hermes 编号生成器
+ * Hermes id generator
+ * <pre>
+ *     为事件、消费记录、会话与链路生成编号，默认实现 {@link SnowflakeIdGenerator} 生成按时间递增的编号，
+ *     新记录总是追加到主键索引末尾，避免随机编号造成的页分裂
+ *     Generates ids for events, consumption records, sessions and traces, the default implementation
+ *     {@link SnowflakeIdGenerator} generates time-ordered ids, so new rows are always appended to the end of
+ *     the primary key index instead of splitting pages at random positions
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@FunctionalInterface
+public interface HermesIdGenerator {
+
+    /**
+     * 生成下一个编号
+     * Generate the next id
+     *
+     * @return 编号
+     * Id
+     * @since 2026-01-08
+     */
+    String nextId();
+}
@@ -0,0 +1,111 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 雪花算法编号生成器
+ * Snowflake id generator
+ * <pre>
+ *     编号为64位正整数：41位毫秒时间戳（自2026-01-01起，约69年）| 10位节点编号 | 12位序列号，
+ *     以十进制字符串输出，可直接存入 BIGINT 列，同一节点内严格递增，不同节点间按时间大致有序；
+ *     时钟回拨时沿用上一次的时间戳继续递增，不会阻塞也不会产生重复编号
+ *     The id is a 64-bit positive integer: 41-bit millisecond timestamp (since 2026-01-01, about 69 years)
+ *     | 10-bit node id | 12-bit sequence, rendered as a decimal string that fits a BIGINT column,
+ *     strictly increasing within a node and roughly time-ordered across nodes;
+ *     when the clock moves backwards the last timestamp keeps being used, it neither blocks nor duplicates ids
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+public final class SnowflakeIdGenerator implements HermesIdGenerator {
+    /**
+     * 起始时间 2026-01-01T00:00:00Z
+     * Epoch 2026-01-01T00:00:00Z
+     */
+    private static final long EPOCH = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final long node;
+
+    /**
+     * 上一次生成的 时间戳|序列号，通过 CAS 更新，无锁
+     * Last generated timestamp|sequence, updated by CAS without locking
+     */
+    private final AtomicLong last = new AtomicLong();
+
+    /**
+     * 构造函数
+     * Constructor
+     *
+     * @param nodeId 节点编号，取值范围 0~1023
+     *               Node id, from 0 to 1023
+     * @since 2026-01-08
+     */
+    public SnowflakeIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE)
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE + ": " + nodeId);
+        this.node = nodeId << SEQUENCE_BITS;
+    }
+
+    /**
+     * 根据实例编号计算节点编号；不同实例可能得到相同结果，只能作为租用节点编号时的起始尝试值
+     * Compute the node id from the instance id; different instances may collide, so it only serves as the first
+     * candidate when leasing a node id
+     *
+     * @param instanceId 服务实例编号
+     *                   Service instance id
+     * @return 节点编号，取值范围 0~1023
+     * Node id, from 0 to 1023
+     * @since 2026-01-08
+     */
+    public static long nodeIdOf(String instanceId) {
+        int hash = instanceId.hashCode();
+        return (hash ^ (hash >>> NODE_BITS) ^ (hash >>> (NODE_BITS * 2))) & MAX_NODE;
+    }
+
+    @Override
+    public String nextId() {
+        return Long.toString(nextLong());
+    }
+
+    /**
+     * 生成下一个数值编号
+     * Generate the next numeric id
+     *
+     * @return 编号
+     * Id
+     * @since 2026-01-08
+     */
+    public long nextLong() {
+        long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+        while (true) {
+            long prev = this.last.get();
+            // 当前毫秒的第一个编号，或者在上一个编号基础上递增（同一毫秒、时钟回拨、序列号用尽借用下一毫秒）
+            long next = now > prev ? now : prev + 1;
+            if (this.last.compareAndSet(prev, next))
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) | this.node | (next & MAX_SEQUENCE);
+        }
+    }
+}
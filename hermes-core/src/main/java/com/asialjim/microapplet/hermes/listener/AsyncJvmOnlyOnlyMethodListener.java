@@ -22,7 +22,6 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.Set;
@@ -49,16 +48,10 @@ public class AsyncJvmOnlyOnlyMethodListener<Event> extends BaseAsyncListener<Eve
     private final HermesService serviceName;
 
     /**
-     * 目标Bean实例
-     * Target Bean instance
+     * 被@OnEvent注解标记方法的调用器
+     * Invoker of the method marked with @OnEvent annotation
      */
-    private final Object bean;
-
-    /**
-     * 被@OnEvent注解标记的方法
-     * Method marked with @OnEvent annotation
-     */
-    private final Method method;
+    private final MethodInvoker invoker;
 
     /**
      * 事件类型
@@ -98,7 +91,34 @@ public class AsyncJvmOnlyOnlyMethodListener<Event> extends BaseAsyncListener<Eve
      */
     @Override
     public void doOnEvent(Hermes<Event> event) throws Throwable {
-        method.invoke(bean, event.getData());
+        invoker.invoke(event.getData());
+    }
+
+    /**
+     * 仅在本JVM内分发的事件无需 Hermes 元数据，直接调用目标方法
+     * Events dispatched only within this JVM need no Hermes metadata, call the target method directly
+     *
+     * @return {@code false}
+     * @since 1.0.0
+     */
+    @Override
+    public boolean requireHermes() {
+        return false;
+    }
+
+    /**
+     * 直接调用被@OnEvent注解标记的方法
+     * Call the method marked with @OnEvent annotation directly
+     *
+     * @param data 事件对象
+     *             Event object
+     * @throws Throwable 方法调用可能抛出的异常
+     *                   Exception that may be thrown during method call
+     * @since 1.0.0
+     */
+    @Override
+    public void doOnData(Event data) throws Throwable {
+        invoker.invoke(data);
     }
 
     /**
@@ -16,8 +16,17 @@
 
 package com.asialjim.microapplet.hermes.listener;
 
+import com.asialjim.microapplet.hermes.dispatcher.AsyncDispatcher;
+import com.asialjim.microapplet.hermes.event.KeyedEvent;
+import org.apache.commons.lang3.StringUtils;
+
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * 异步监听器
@@ -29,13 +38,38 @@ import java.util.concurrent.Executor;
  * @param <Event> 事件类型
  *                Event type
  */
-public abstract class BaseAsyncListener<Event> implements Listener<Event> {
+public abstract class BaseAsyncListener<Event> implements Listener<Event>, AutoCloseable {
     /**
      * 执行器，用于异步执行事件处理
      * Executor for asynchronous event processing
      */
     protected Executor executor;
 
+    /**
+     * 异步分发器，设置后优先于执行器使用
+     * Async dispatcher, takes precedence over the executor once set
+     */
+    protected AsyncDispatcher dispatcher;
+
+    /**
+     * 按顺序键分通道的分发器，用于带顺序键的事件
+     * Dispatcher partitioned by ordering key, used for events with an ordering key
+     */
+    protected AsyncDispatcher orderedDispatcher;
+
+    /**
+     * 顺序键提取器
+     * Ordering key extractor
+     */
+    protected Function<Object, Object> orderingKey;
+
+    /**
+     * 异步处理中的事件占用的投递：事件ID -> 投递队列；同一事件可能在处理完成前被再次投递，每次投递各占用一次
+     * Deliveries held by events being processed asynchronously: event ID -> queue of deliveries; the same event may be
+     * delivered again before its processing completes, every delivery holds once
+     */
+    private final ConcurrentMap<String, Queue<HermesDelivery>> deliveries = new ConcurrentHashMap<>();
+
     /**
      * 设置执行器
      * Set executor
@@ -48,6 +82,64 @@ public abstract class BaseAsyncListener<Event> implements Listener<Event> {
         this.executor = executor;
     }
 
+    /**
+     * 设置异步分发器
+     * Set async dispatcher
+     *
+     * @param dispatcher 异步分发器实例
+     *                   Async dispatcher instance
+     * @since 2026-01-08
+     */
+    public final void setDispatcher(AsyncDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * 设置按顺序键分通道的分发器
+     * Set dispatcher partitioned by ordering key
+     *
+     * @param orderedDispatcher 分发器实例
+     *                          Dispatcher instance
+     * @since 2026-01-08
+     */
+    public final void setOrderedDispatcher(AsyncDispatcher orderedDispatcher) {
+        this.orderedDispatcher = orderedDispatcher;
+    }
+
+    /**
+     * 设置顺序键提取器
+     * Set ordering key extractor
+     *
+     * @param orderingKey 顺序键提取器
+     *                    Ordering key extractor
+     * @since 2026-01-08
+     */
+    public final void setOrderingKey(Function<Object, Object> orderingKey) {
+        this.orderingKey = orderingKey;
+    }
+
+    /**
+     * 获取事件的顺序键
+     * Get the ordering key of the event
+     * <pre>
+     *     优先使用监听器配置的顺序键提取器，其次使用{@link KeyedEvent#orderingKey()}
+     *     The extractor configured on the listener takes precedence over {@link KeyedEvent#orderingKey()}
+     * </pre>
+     *
+     * @param event 事件对象
+     *              Event object
+     * @return 顺序键，可能为{@code null}
+     * Ordering key, nullable
+     * @since 2026-01-08
+     */
+    public Object orderingKey(Event event) {
+        if (Objects.nonNull(orderingKey))
+            return orderingKey.apply(event);
+        if (event instanceof KeyedEvent keyedEvent)
+            return keyedEvent.orderingKey();
+        return null;
+    }
+
     /**
      * 异步处理事件
      * Process event asynchronously
@@ -58,10 +150,128 @@ public abstract class BaseAsyncListener<Event> implements Listener<Event> {
      */
     @Override
     public final void onEvent(Event event) {
-        if (Objects.nonNull(executor))
-            executor.execute(() -> Listener.super.onEvent(event));
+        route(null, event);
+    }
+
+    /**
+     * 异步处理带事件编号的事件
+     * Process event with ID asynchronously
+     * <pre>
+     *     消费投递的事件与本地事件一样经分发器或执行器处理，关闭时可被排空；处理期间占用当前投递，
+     *     消费结果在本监听器处理完成后才记录
+     *     Consumed deliveries go through the dispatcher or executor like local events, so they are drained on close;
+     *     the current delivery is held while processing, the consumption result is recorded after this listener
+     *     completes
+     * </pre>
+     *
+     * @param id    事件ID
+     *              Event ID
+     * @param event 事件对象
+     *              Event object
+     * @since 2026-01-08
+     */
+    @Override
+    public final void onEvent(String id, Event event) {
+        if (StringUtils.isBlank(id)) {
+            route(null, event);
+            return;
+        }
+        HermesDelivery delivery = HermesDelivery.defer();
+        if (Objects.nonNull(delivery))
+            deliveries.compute(id, (key, queue) -> {
+                Queue<HermesDelivery> held = Objects.isNull(queue) ? new ConcurrentLinkedQueue<>() : queue;
+                held.add(delivery);
+                return held;
+            });
+        try {
+            route(id, event);
+        } catch (RuntimeException e) {
+            release(id, "FAIL", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 将事件交给顺序分发器、分发器或执行器，均未设置时在当前线程处理
+     * Hand the event to the ordered dispatcher, the dispatcher or the executor, processed on the current thread when
+     * none is set
+     *
+     * @param id    事件ID，可以为空
+     *              Event ID, nullable
+     * @param event 事件对象
+     *              Event object
+     * @since 2026-01-08
+     */
+    private void route(String id, Event event) {
+        if (Objects.nonNull(orderedDispatcher) && Objects.nonNull(orderingKey(event)))
+            orderedDispatcher.dispatch(this, id, event);
+        else if (Objects.nonNull(dispatcher))
+            dispatcher.dispatch(this, id, event);
+        else if (Objects.nonNull(executor))
+            executor.execute(() -> process(id, event));
         else
+            process(id, event);
+    }
+
+    /**
+     * 在当前线程处理事件，供异步分发器的工作线程调用
+     * Process event on the current thread, called by worker threads of the async dispatcher
+     *
+     * @param id    事件ID，可以为空
+     *              Event ID, nullable
+     * @param event 事件对象
+     *              Event object
+     * @since 2026-01-08
+     */
+    public final void process(String id, Event event) {
+        if (StringUtils.isBlank(id)) {
             Listener.super.onEvent(event);
+            return;
+        }
+        try {
+            Listener.super.onEvent(id, event);
+        } finally {
+            release(id, "0", "OK");
+        }
+    }
+
+    /**
+     * 释放事件占用的一次投递，按投递先后释放；监听器自身的失败已由 {@link #onError} 记录
+     * Release one delivery held by the event, in delivery order; failures of the listener itself are already recorded
+     * by {@link #onError}
+     *
+     * @param id   事件ID
+     *             Event ID
+     * @param code 结果码
+     *             Result code
+     * @param err  结果描述
+     *             Result description
+     * @since 2026-01-08
+     */
+    private void release(String id, String code, String err) {
+        HermesDelivery[] released = new HermesDelivery[1];
+        // 取出与移除空队列在同一次原子计算中完成，避免与并发的再次投递交错
+        deliveries.computeIfPresent(id, (key, queue) -> {
+            released[0] = queue.poll();
+            return queue.isEmpty() ? null : queue;
+        });
+        if (Objects.nonNull(released[0]))
+            released[0].complete(code, err);
+    }
+
+    /**
+     * 关闭分发器，等待已进入分发器的事件处理完毕；分发器可被多个监听器共用，重复关闭不会产生影响
+     * Close the dispatchers and wait for the events already in them to be processed; dispatchers may be shared by
+     * several listeners, closing them again has no effect
+     *
+     * @since 2026-01-08
+     */
+    @Override
+    public void close() {
+        if (Objects.nonNull(this.orderedDispatcher))
+            this.orderedDispatcher.close();
+        if (Objects.nonNull(this.dispatcher))
+            this.dispatcher.close();
     }
 
     /**
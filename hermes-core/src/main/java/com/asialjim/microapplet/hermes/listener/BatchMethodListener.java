@@ -0,0 +1,376 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.listener;
+
+import com.asialjim.microapplet.hermes.HermesService;
+import com.asialjim.microapplet.hermes.event.Hermes;
+import com.asialjim.microapplet.hermes.event.HermesBatch;
+import com.asialjim.microapplet.hermes.provider.HermesRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 {@link com.asialjim.microapplet.hermes.annotation.OnEvent} 注解的批量监听器包装器
+ * Batch listener wrapper based on {@link com.asialjim.microapplet.hermes.annotation.OnEvent} annotation
+ * <pre>
+ *     投递的事件先放入缓冲队列，由监听器自己的线程按 maxSize 与 maxWait 凑成一批，每批调用一次被标记的方法，
+ *     并按批记录监听器的处理结果；缓冲队列满时投递线程阻塞等待，形成背压。缓冲的事件占用其 {@link HermesDelivery}，
+ *     消费记录在本批处理完成前保持处理中
+ *     Delivered events are put into a buffer queue, the listener's own thread groups them into batches by maxSize and
+ *     maxWait, invokes the marked method once per batch and records the outcome of the listener per batch;
+ *     the delivering thread blocks when the buffer queue is full, which applies back pressure. Buffered events hold
+ *     their {@link HermesDelivery}, so the consumption record stays processing until the batch completes
+ * </pre>
+ *
+ * @param <Event> 事件类型
+ *                Event type
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Slf4j
+public class BatchMethodListener<Event> implements Listener<Event>, AutoCloseable {
+    /**
+     * 服务名称
+     * Service name
+     */
+    @Getter
+    private final HermesService serviceName;
+
+    /**
+     * Hermes仓库，用于事件状态更新
+     * Hermes repository for event status updates
+     */
+    private final HermesRepository hermesRepository;
+
+    /**
+     * 被@OnEvent注解标记方法的调用器
+     * Invoker of the method marked with @OnEvent annotation
+     */
+    private final MethodInvoker invoker;
+
+    /**
+     * 事件类型，即批量参数的元素类型
+     * Event type, the element type of the batch parameter
+     */
+    private final Class<Event> eventType;
+
+    /**
+     * 执行顺序
+     * Execution order
+     */
+    @Getter
+    private final int order;
+
+    /**
+     * 监听器名称，用于记录每个监听器的处理结果
+     * Listener name, used to record the outcome of each listener
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * 方法参数是否为 {@link HermesBatch}，否则为 {@link List}
+     * Whether the method parameter is {@link HermesBatch}, otherwise {@link List}
+     */
+    private final boolean hermesBatch;
+
+    /**
+     * 每批最多事件数量
+     * Maximum number of events per batch
+     */
+    private final int maxSize;
+
+    /**
+     * 收到第一个事件后最长等待纳秒数
+     * Maximum nanoseconds to wait after the first event
+     */
+    private final long maxWaitNanos;
+
+    /**
+     * 等待凑批的事件
+     * Events waiting to be batched
+     */
+    private final BlockingQueue<Buffered<Event>> buffer;
+
+    /**
+     * 凑批与调用线程，收到第一个事件时启动
+     * Batching and invoking thread, started on the first event
+     */
+    private volatile Thread thread;
+
+    private volatile boolean running = true;
+
+    /**
+     * 构造函数，凑批线程在收到第一个事件时启动
+     * Constructor, the batching thread is started on the first event
+     *
+     * @param serviceName      服务名称
+     *                         Service name
+     * @param hermesRepository Hermes仓库
+     *                         Hermes repository
+     * @param invoker          被标记方法的调用器
+     *                         Invoker of the marked method
+     * @param eventType        事件类型
+     *                         Event type
+     * @param order            执行顺序
+     *                         Execution order
+     * @param name             监听器名称
+     *                         Listener name
+     * @param hermesBatch      方法参数是否为 {@link HermesBatch}
+     *                         Whether the method parameter is {@link HermesBatch}
+     * @param maxSize          每批最多事件数量
+     *                         Maximum number of events per batch
+     * @param maxWaitMillis    收到第一个事件后最长等待毫秒数
+     *                         Maximum milliseconds to wait after the first event
+     * @since 2026-01-08
+     */
+    public BatchMethodListener(HermesService serviceName,
+                               HermesRepository hermesRepository,
+                               MethodInvoker invoker,
+                               Class<Event> eventType,
+                               int order,
+                               String name,
+                               boolean hermesBatch,
+                               int maxSize,
+                               long maxWaitMillis) {
+        this.serviceName = serviceName;
+        this.hermesRepository = hermesRepository;
+        this.invoker = invoker;
+        this.eventType = eventType;
+        this.order = order;
+        this.name = name;
+        this.hermesBatch = hermesBatch;
+        this.maxSize = Math.max(1, maxSize);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMillis));
+        this.buffer = new LinkedBlockingQueue<>(this.maxSize * 4);
+    }
+
+    /**
+     * 启动凑批线程，已启动时不做任何事
+     * Start the batching thread, does nothing once started
+     *
+     * @throws IllegalStateException 监听器已关闭
+     *                               The listener is closed
+     */
+    private void start() {
+        if (Objects.nonNull(this.thread) && this.running)
+            return;
+        synchronized (this) {
+            if (!this.running)
+                throw new IllegalStateException("Batch listener " + this.name + " is closed");
+            if (Objects.isNull(this.thread))
+                this.thread = Thread.ofPlatform()
+                        .name("hermes-batch-" + this.name)
+                        .daemon(true)
+                        .start(this::run);
+        }
+    }
+
+    /**
+     * 获取当前监听器感兴趣的事件类型集合
+     * Get the set of event types that the current listener is interested in
+     *
+     * @return 事件类型集合，仅包含一个元素
+     *         Set of event types, containing only one element
+     * @since 2026-01-08
+     */
+    @Override
+    public final Set<Type> eventType() {
+        return Collections.singleton(this.eventType);
+    }
+
+    /**
+     * 将事件放入缓冲队列，队列满时阻塞等待；事件占用当前投递，直到所在批次处理完成
+     * Put the event into the buffer queue, blocks while the queue is full; the event holds the current delivery until
+     * its batch completes
+     *
+     * @param event 包装后的事件对象
+     *              Wrapped event object
+     * @throws Throwable 监听器已关闭或等待被中断
+     *                   The listener is closed or the wait is interrupted
+     * @since 2026-01-08
+     */
+    @Override
+    public void doOnEvent(Hermes<Event> event) throws Throwable {
+        // 重新投递时跳过已成功处理过该事件的监听器
+        if (this.hermesRepository.consumed(event.getId(), this.serviceName.serviceName(), this.name)) {
+            if (log.isDebugEnabled())
+                log.debug("监听器[{}]已成功处理事件[{}]，跳过", this.name, event.getId());
+            return;
+        }
+        start();
+        HermesDelivery delivery = HermesDelivery.defer();
+        try {
+            this.buffer.put(new Buffered<>(event, delivery));
+        } catch (InterruptedException e) {
+            if (Objects.nonNull(delivery))
+                delivery.complete("FAIL", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 事件处理前的回调，标记事件为处理中状态
+     * Callback before event processing, mark event as processing status
+     *
+     * @param hermes 包装后的事件对象
+     *               Wrapped event object
+     * @since 2026-01-08
+     */
+    @Override
+    public void before(Hermes<Event> hermes) {
+        this.hermesRepository.processingEvent(hermes.getId(), this.serviceName.serviceName());
+    }
+
+    /**
+     * 事件未能放入缓冲队列时的回调，记录事件处理失败状态
+     * Callback when the event could not be buffered, record event processing failure status
+     *
+     * @param hermes    包装后的事件对象
+     *                  Wrapped event object
+     * @param throwable 放入缓冲队列时抛出的异常
+     *                  Exception thrown while buffering
+     * @since 2026-01-08
+     */
+    @Override
+    public void onError(Hermes<Event> hermes, Throwable throwable) {
+        this.hermesRepository.errorEvent(hermes.getId(), this.serviceName.serviceName(), this.name, throwable.getMessage());
+    }
+
+    /**
+     * 凑批线程主循环：取到第一个事件后，在 maxWait 内尽量凑满 maxSize 个事件再调用
+     * Main loop of the batching thread: after taking the first event, try to gather maxSize events within maxWait before invoking
+     */
+    private void run() {
+        while (this.running || !this.buffer.isEmpty()) {
+            try {
+                Buffered<Event> first = this.buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (Objects.isNull(first))
+                    continue;
+
+                List<Buffered<Event>> batch = new ArrayList<>(this.maxSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + this.maxWaitNanos;
+                while (batch.size() < this.maxSize) {
+                    this.buffer.drainTo(batch, this.maxSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= this.maxSize || remaining <= 0 || !this.running)
+                        break;
+                    Buffered<Event> next = this.buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (Objects.isNull(next))
+                        break;
+                    batch.add(next);
+                }
+                invoke(batch);
+            } catch (InterruptedException e) {
+                // 被中断时不丢弃已缓冲的事件，继续凑批处理
+                if (log.isDebugEnabled())
+                    log.debug("Batch listener {} interrupted", this.name);
+            }
+        }
+    }
+
+    /**
+     * 调用一次被标记的方法，批量记录处理结果，并释放本批事件占用的投递
+     * Invoke the marked method once, record the outcome in batch and release the deliveries held by the batch
+     *
+     * @param batch 一批事件
+     *              A batch of events
+     */
+    private void invoke(List<Buffered<Event>> batch) {
+        List<Hermes<Event>> events = new ArrayList<>(batch.size());
+        List<String> eventIds = new ArrayList<>(batch.size());
+        for (Buffered<Event> buffered : batch) {
+            events.add(buffered.event());
+            eventIds.add(buffered.event().getId());
+        }
+        String code = "0";
+        String err = "OK";
+        String application = this.serviceName.serviceName();
+        long start = System.nanoTime();
+        try {
+            HermesBatch<Event> hermesBatch = new HermesBatch<>(events);
+            this.invoker.invoke(this.hermesBatch ? hermesBatch : hermesBatch.getData());
+            if (log.isDebugEnabled())
+                log.debug("批量监听器[{}]处理[{}]个事件耗时[{} 毫秒]", this.name, batch.size(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            this.hermesRepository.succeedEvents(eventIds, application, this.name);
+        } catch (Throwable e) {
+            if (log.isDebugEnabled()) log.error("批量监听器[{}]处理事件{}异常:{}", this.name, eventIds, e.getMessage(), e);
+            else log.info("批量监听器[{}]处理事件{}异常:{}", this.name, eventIds, e.getMessage());
+            this.hermesRepository.errorEvents(eventIds, application, this.name, e.getMessage());
+            code = "FAIL";
+            err = e.getMessage();
+        } finally {
+            for (Buffered<Event> buffered : batch) {
+                if (Objects.nonNull(buffered.delivery()))
+                    buffered.delivery().complete(code, err);
+            }
+        }
+    }
+
+    /**
+     * 停止接收事件，处理完缓冲队列中剩余的事件后停止凑批线程；凑批线程退出后才进入队列的事件由调用线程处理
+     * Stop accepting events, stop the batching thread after the remaining buffered events are processed; events that
+     * entered the queue after the batching thread exited are processed on the calling thread
+     *
+     * @since 2026-01-08
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            this.running = false;
+            thread = this.thread;
+        }
+        if (Objects.isNull(thread))
+            return;
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (thread.isAlive())
+            return;
+        List<Buffered<Event>> rest = new ArrayList<>();
+        this.buffer.drainTo(rest);
+        if (!rest.isEmpty())
+            invoke(rest);
+    }
+
+    /**
+     * 缓冲的事件及其占用的投递
+     * Buffered event and the delivery it holds
+     *
+     * @param event    包装后的事件对象
+     *                 Wrapped event object
+     * @param delivery 占用的投递，本地事件为null
+     *                 Held delivery, null for local events
+     * @param <E>      事件类型
+     *                 Event type
+     */
+    private record Buffered<E>(Hermes<E> event, HermesDelivery delivery) {
+    }
+}
@@ -24,26 +24,44 @@ import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
 import java.util.function.Consumer;
 
 /**
  * Hermes 消费者
  * Hermes Consumer
+ * <pre>
+ *     补偿消费按积压情况自适应调度：上一次补偿消费到事件时以最小间隔继续，否则间隔逐次翻倍直到最大间隔，
+ *     中间件重新连接时调用 {@link #wakeUpReConsumption()} 立即补偿消费；
+ *     当前间隔、上一次补偿消费的事件数量与耗时通过对应的 getter 暴露
+ *     Compensation consumption is scheduled adaptively by backlog: it continues at the minimum interval while the
+ *     last round found events, otherwise the interval doubles up to the maximum, and
+ *     {@link #wakeUpReConsumption()} runs it immediately when the middleware reconnects;
+ *     the current interval, the number of events and the duration of the last round are exposed by getters
+ * </pre>
  *
  * @author <a href="mailto:asialjim@hotmail.com">Asial Jim</a>
  * @version 1.0.0
  * @since 1.0.0
  */
+@Slf4j
 public abstract class HermesConsumer {
+    /**
+     * 补偿消费的最小间隔
+     * Minimum interval of compensation consumption
+     */
+    private static final long MIN_RE_CONSUMPTION_DELAY = TimeUnit.SECONDS.toMillis(1);
+
     /**
      * 调度执行器，用于定时任务和异步操作
      * Scheduled executor service for timed tasks and asynchronous operations
      */
+    @Getter(AccessLevel.PROTECTED)
     private final ScheduledExecutorService scheduler;
 
     /**
@@ -57,8 +75,54 @@ public abstract class HermesConsumer {
      * Hermes仓库，用于事件存储和查询
      * Hermes repository for event storage and query
      */
+    @Getter(AccessLevel.PROTECTED)
     private final HermesRepository hermesRepository;
 
+    /**
+     * 补偿消费调度锁
+     * Lock of compensation consumption scheduling
+     */
+    private final Object reConsumptionLock = new Object();
+
+    /**
+     * 下一次补偿消费
+     * Next compensation consumption
+     */
+    private ScheduledFuture<?> nextReConsumption;
+
+    /**
+     * 是否正在补偿消费
+     * Whether compensation consumption is running
+     */
+    private boolean reConsuming;
+
+    /**
+     * 补偿消费期间收到唤醒请求
+     * Wake-up requested while compensation consumption is running
+     */
+    private boolean reConsumptionWakeUp;
+
+    /**
+     * 当前补偿消费间隔（毫秒）
+     * Current compensation consumption interval in milliseconds
+     */
+    @Getter
+    private volatile long reConsumptionIntervalMillis;
+
+    /**
+     * 上一次补偿消费的事件数量
+     * Number of events in the last compensation consumption
+     */
+    @Getter
+    private volatile int reConsumptionBacklog;
+
+    /**
+     * 上一次补偿消费的耗时（毫秒）
+     * Duration of the last compensation consumption in milliseconds
+     */
+    @Getter
+    private volatile long reConsumptionSweepMillis;
+
     /**
      * 构造函数
      * Constructor
@@ -99,13 +163,73 @@ public abstract class HermesConsumer {
     /**
      * 停止消费者
      * Stop consumer
+     * <pre>
+     *     1. 取消中间件订阅，不再接收新的事件通知
+     *     2. 停止补偿消费与心跳调度，等待正在进行的补偿消费结束
+     *     3. 排空异步监听器的队列
+     *     4. 释放本实例持有的处理中记录，由同服务的其他实例立即接手
+     *     以上步骤共用 {@link #shutdownTimeout()} 的期限，超时后直接释放，未处理完的事件重新投递给其他实例
+     *     1. Unsubscribe from the middleware, no new event notifications are received
+     *     2. Stop the compensation consumption and heartbeat schedules, wait for the running compensation consumption
+     *     3. Drain the queues of async listeners
+     *     4. Release the processing records held by this instance so other instances of the service take over at once
+     *     The steps share the deadline of {@link #shutdownTimeout()}, on timeout the records are released directly and
+     *     unfinished events are redelivered to other instances
+     * </pre>
      *
      * @since 1.0.0
      */
     @PreDestroy
     public final void stop() {
-        this.scheduler.shutdown();
-        gracefullyShutdownMQListener();
+        long deadline = System.nanoTime() + shutdownTimeout().toNanos();
+        try {
+            gracefullyShutdownMQListener();
+        } catch (Throwable e) {
+            log.warn("Hermes 取消订阅失败：{}", e.getMessage());
+        }
+
+        synchronized (this.reConsumptionLock) {
+            this.scheduler.shutdown();
+            if (Objects.nonNull(this.nextReConsumption))
+                this.nextReConsumption.cancel(false);
+        }
+        try {
+            if (!this.scheduler.awaitTermination(remaining(deadline), TimeUnit.NANOSECONDS))
+                log.warn("Hermes 补偿消费未在停止期限内结束");
+
+            Thread drain = Thread.ofVirtual().name("hermes-drain").start(EventBus::drain);
+            drain.join(Duration.ofNanos(remaining(deadline)));
+            if (drain.isAlive())
+                log.warn("Hermes 异步监听器未在停止期限内排空，未处理完的事件将重新投递");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            this.hermesRepository.release(this.hermesService);
+        } catch (Throwable e) {
+            log.warn("Hermes 释放处理中记录失败，等待租约过期后重新投递：{}", e.getMessage());
+        }
+    }
+
+    /**
+     * 距离期限的剩余纳秒数
+     * Remaining nanoseconds before the deadline
+     */
+    private static long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    /**
+     * 停止消费者的期限，包括等待补偿消费结束与排空异步监听器
+     * Deadline of stopping the consumer, including waiting for compensation consumption and draining async listeners
+     *
+     * @return 停止期限
+     * Stop deadline
+     * @since 2026-01-08
+     */
+    protected Duration shutdownTimeout() {
+        return Duration.ofSeconds(30);
     }
 
     /**
@@ -130,12 +254,12 @@ public abstract class HermesConsumer {
      * 监听器收到事件
      * Listener received event
      *
-     * @param id 事件ID
-     *           Event ID
+     * @param notification 中间件通知，事件ID或随通知发送的事件
+     *                     Middleware notification, the event ID or the event carried by it
      * @since 1.0.0
      */
-    private void onHermesReceived(String id) {
-        Hermes<?> hermes = this.hermesRepository.queryAvailableHermesByIdAndServiceName(id, this.hermesService.serviceName());
+    private void onHermesReceived(String notification) {
+        Hermes<?> hermes = this.hermesRepository.queryAvailableHermes(notification, this.hermesService.serviceName());
         // 发布本地事件
         Optional.ofNullable(hermes)
                 .flatMap(item -> Optional.of(item.setGlobal(false)))
@@ -144,16 +268,97 @@ public abstract class HermesConsumer {
 
     /**
      * 事件补偿消费
-     * 应用启动时变开始消费一次，随后每隔2分钟消费一次
+     * 应用启动时变开始消费一次，随后按积压情况自适应调度
      * Event compensation consumption
-     * Starts consumption once when the application starts, then consumes every 2 minutes
+     * Starts consumption once when the application starts, then schedules adaptively by backlog
      *
      * @since 1.0.0
      */
     protected void eventReConsumption() {
-        this.scheduler.scheduleAtFixedRate(
-                () -> this.hermesRepository.reConsumption(this.hermesService.serviceName()),
-                0, 2, TimeUnit.MINUTES);
+        synchronized (this.reConsumptionLock) {
+            scheduleReConsumption(0);
+        }
+    }
+
+    /**
+     * 补偿消费的最大间隔，没有积压时间隔逐次翻倍直到该值
+     * Maximum interval of compensation consumption, the interval doubles up to it while there is no backlog
+     *
+     * @return 最大间隔
+     * Maximum interval
+     * @since 2026-01-08
+     */
+    protected Duration reConsumptionMaxInterval() {
+        return Duration.ofMinutes(2);
+    }
+
+    /**
+     * 立即执行一次补偿消费，如中间件重新连接后补偿断线期间错过的通知
+     * Run compensation consumption immediately, e.g. to catch up notifications missed while the middleware was disconnected
+     *
+     * @since 2026-01-08
+     */
+    protected void wakeUpReConsumption() {
+        synchronized (this.reConsumptionLock) {
+            if (this.reConsuming) {
+                this.reConsumptionWakeUp = true;
+                return;
+            }
+            // 已开始执行的补偿消费无需再次唤醒
+            if (Objects.nonNull(this.nextReConsumption) && !this.nextReConsumption.cancel(false))
+                return;
+            scheduleReConsumption(0);
+        }
+    }
+
+    /**
+     * 执行一次补偿消费，并根据本次的事件数量调度下一次
+     * Run one round of compensation consumption and schedule the next one by the number of events found
+     */
+    private void reConsumption() {
+        synchronized (this.reConsumptionLock) {
+            this.reConsuming = true;
+        }
+
+        long start = System.nanoTime();
+        int backlog = 0;
+        try {
+            backlog = this.hermesRepository.reConsumption(this.hermesService.serviceName());
+        } catch (Throwable e) {
+            log.warn("Hermes 补偿消费失败：{}", e.getMessage());
+        }
+        this.reConsumptionSweepMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        this.reConsumptionBacklog = backlog;
+
+        long max = Math.max(MIN_RE_CONSUMPTION_DELAY, reConsumptionMaxInterval().toMillis());
+        long delay = backlog > 0
+                ? MIN_RE_CONSUMPTION_DELAY
+                : Math.min(max, Math.max(MIN_RE_CONSUMPTION_DELAY, this.reConsumptionIntervalMillis * 2));
+
+        synchronized (this.reConsumptionLock) {
+            this.reConsuming = false;
+            this.reConsumptionIntervalMillis = delay;
+            if (this.reConsumptionWakeUp) {
+                this.reConsumptionWakeUp = false;
+                delay = 0;
+            }
+            scheduleReConsumption(delay);
+        }
+    }
+
+    /**
+     * 调度下一次补偿消费
+     * Schedule the next compensation consumption
+     */
+    private void scheduleReConsumption(long delay) {
+        if (this.scheduler.isShutdown())
+            return;
+        try {
+            this.nextReConsumption = this.scheduler.schedule(this::reConsumption, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            if (log.isDebugEnabled())
+                log.debug("Hermes 补偿消费调度已停止：{}", e.getMessage());
+        }
     }
 
     /**
@@ -0,0 +1,198 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.listener;
+
+import com.asialjim.microapplet.hermes.provider.HermesRepository;
+
+import java.util.Objects;
+
+/**
+ * 一次 Hermes 消费投递
+ * A single Hermes consumption delivery
+ * <pre>
+ *     消费线程同步分发事件期间，投递绑定在当前线程上；需要在分发结束后才处理事件的监听器（如批量监听器）通过
+ *     {@link #defer()} 占用投递，处理完成后调用 {@link #complete(String, String)} 释放。同步分发与全部占用者都完成后，
+ *     才按最先出现的失败结果（没有失败时为成功）记录一次消费结果，在此之前消费记录保持处理中，进程崩溃后由租约过期重新投递
+ *     The delivery is bound to the consuming thread while the event is dispatched synchronously; listeners that handle
+ *     the event after the dispatch returns (such as batch listeners) hold the delivery through {@link #defer()} and
+ *     release it with {@link #complete(String, String)} when they finish. The consumption result is recorded once,
+ *     with the first failure (or success if none failed), only after the synchronous dispatch and every holder have
+ *     completed; until then the consumption record stays processing and is redelivered after its lease expires if
+ *     the process crashes
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+public final class HermesDelivery {
+    /**
+     * 当前线程正在分发的投递
+     * Delivery being dispatched on the current thread
+     */
+    private static final ThreadLocal<HermesDelivery> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 事件ID
+     * Event ID
+     */
+    private final String id;
+
+    /**
+     * 服务名称
+     * Service name
+     */
+    private final String serviceName;
+
+    /**
+     * Hermes仓库，用于记录消费结果
+     * Hermes repository for recording the consumption result
+     */
+    private final HermesRepository hermesRepository;
+
+    /**
+     * 尚未完成的占用数量，包含同步分发本身
+     * Number of holders not yet completed, including the synchronous dispatch itself
+     */
+    private int pending = 1;
+
+    /**
+     * 结果码
+     * Result code
+     */
+    private String code = "0";
+
+    /**
+     * 结果描述
+     * Result description
+     */
+    private String err = "OK";
+
+    private HermesDelivery(String id, String serviceName, HermesRepository hermesRepository) {
+        this.id = id;
+        this.serviceName = serviceName;
+        this.hermesRepository = hermesRepository;
+    }
+
+    /**
+     * 在投递上下文中同步分发事件，并在分发与全部占用者完成后记录消费结果
+     * Dispatch the event synchronously within the delivery context, and record the consumption result after the
+     * dispatch and every holder have completed
+     *
+     * @param id               事件ID
+     *                         Event ID
+     * @param serviceName      服务名称
+     *                         Service name
+     * @param hermesRepository Hermes仓库
+     *                         Hermes repository
+     * @param dispatch         同步分发动作
+     *                         Synchronous dispatch action
+     * @since 2026-01-08
+     */
+    public static void dispatch(String id, String serviceName, HermesRepository hermesRepository, Runnable dispatch) {
+        HermesDelivery delivery = new HermesDelivery(id, serviceName, hermesRepository);
+        String code = "0";
+        String err = "OK";
+        try {
+            run(delivery, dispatch);
+        } catch (Throwable throwable) {
+            code = "FAIL";
+            err = throwable.getMessage();
+        } finally {
+            delivery.complete(code, err);
+        }
+    }
+
+    /**
+     * 获取当前线程正在分发的投递
+     * Get the delivery being dispatched on the current thread
+     *
+     * @return 投递，不在投递上下文中时返回null
+     * Delivery, null outside a delivery context
+     * @since 2026-01-08
+     */
+    public static HermesDelivery current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 在指定投递上下文中执行任务，用于把投递传递给并行分发的线程
+     * Run the task within the given delivery context, used to carry the delivery to fan-out threads
+     *
+     * @param delivery 投递，可以为空
+     *                 Delivery, nullable
+     * @param runnable 任务
+     *                 Task
+     * @since 2026-01-08
+     */
+    public static void run(HermesDelivery delivery, Runnable runnable) {
+        HermesDelivery previous = CURRENT.get();
+        if (Objects.isNull(delivery)) CURRENT.remove();
+        else CURRENT.set(delivery);
+        try {
+            runnable.run();
+        } finally {
+            if (Objects.isNull(previous)) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * 占用当前线程正在分发的投递，推迟消费结果的记录
+     * Hold the delivery being dispatched on the current thread, deferring the recording of the consumption result
+     *
+     * @return 被占用的投递，不在投递上下文中时返回null
+     * Held delivery, null outside a delivery context
+     * @since 2026-01-08
+     */
+    public static HermesDelivery defer() {
+        HermesDelivery delivery = CURRENT.get();
+        if (Objects.nonNull(delivery))
+            delivery.hold();
+        return delivery;
+    }
+
+    private synchronized void hold() {
+        this.pending++;
+    }
+
+    /**
+     * 释放一次占用，最后一次释放时记录消费结果
+     * Release one hold, the last release records the consumption result
+     *
+     * @param code 结果码，"0" 表示成功
+     *             Result code, "0" means success
+     * @param err  结果描述
+     *             Result description
+     * @since 2026-01-08
+     */
+    public void complete(String code, String err) {
+        String finalCode;
+        String finalErr;
+        synchronized (this) {
+            if ("0".equals(this.code) && !"0".equals(code)) {
+                this.code = code;
+                this.err = err;
+            }
+            if (--this.pending > 0)
+                return;
+            finalCode = this.code;
+            finalErr = this.err;
+        }
+        this.hermesRepository.log(this.id, this.serviceName, finalCode, finalErr);
+    }
+}
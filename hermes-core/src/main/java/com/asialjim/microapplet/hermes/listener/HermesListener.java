@@ -53,6 +53,11 @@ public class HermesListener implements JvmOnlyListener<Hermes<?>> {
     /**
      * 处理Hermes事件
      * Process Hermes event
+     * <pre>
+     *     在投递上下文中分发，推迟处理事件的监听器完成后才记录消费结果
+     *     Dispatched within a delivery context, the consumption result is recorded after the listeners that defer the
+     *     event have completed
+     * </pre>
      *
      * @param event Hermes事件对象
      *              Hermes event object
@@ -61,17 +66,8 @@ public class HermesListener implements JvmOnlyListener<Hermes<?>> {
     @Override
     public void onEvent(Hermes<?> event) {
         String id = event.getId();
-        String code = "0";
-        String err = "OK";
-        try {
-            Object data = event.getData();
-            EventBus.push(id,false, data);
-        } catch (Throwable throwable) {
-            code = "FAIL";
-            err = throwable.getMessage();
-        } finally {
-            hermesRepository.log(id, this.serviceName.serviceName(), code, err);
-        }
+        HermesDelivery.dispatch(id, this.serviceName.serviceName(), hermesRepository,
+                () -> EventBus.push(id, false, event.getData()));
     }
 
     /**
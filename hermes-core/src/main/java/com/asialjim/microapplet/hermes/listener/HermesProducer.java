@@ -18,6 +18,7 @@ package com.asialjim.microapplet.hermes.listener;
 
 import com.asialjim.microapplet.hermes.HermesService;
 import com.asialjim.microapplet.hermes.event.Hermes;
+import com.asialjim.microapplet.hermes.event.HermesReceipt;
 import com.asialjim.microapplet.hermes.provider.HermesCluster;
 import com.asialjim.microapplet.hermes.provider.HermesRepository;
 import jakarta.annotation.Nonnull;
@@ -27,10 +28,9 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.reflect.Type;
-import java.util.Collections;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
@@ -48,6 +48,12 @@ import java.util.function.Supplier;
 @Slf4j
 @Setter
 public class HermesProducer implements JvmOnlyListener<Object> {
+    /**
+     * 感兴趣的事件类型
+     * Interested event types
+     */
+    private static final Set<Type> EVENT_TYPE = Collections.singleton(Object.class);
+
     /**
      * 服务名称
      * Service name
@@ -117,7 +123,7 @@ public class HermesProducer implements JvmOnlyListener<Object> {
      */
     @Override
     public Set<Type> eventType() {
-        return Collections.singleton(Object.class);
+        return EVENT_TYPE;
     }
 
     /**
@@ -143,16 +149,56 @@ public class HermesProducer implements JvmOnlyListener<Object> {
      */
     @Override
     public void doOnEvent(Hermes<Object> hermes) {
+        send(hermes);
+    }
+
+    /**
+     * 发布事件到分布式总线并返回回执
+     * Publish event to distributed bus and return the receipt
+     * <pre>
+     *     与经由{@link #onEvent(Object)}发布不同，发布过程中的异常不会被吞掉，而是直接抛出给调用方
+     *     Unlike publishing through {@link #onEvent(Object)}, exceptions during publishing are not swallowed but thrown to the caller
+     * </pre>
+     *
+     * @param event 事件对象
+     *              Event object
+     * @return 事件发布回执
+     * Event publish receipt
+     * @since 2026-01-08
+     */
+    public HermesReceipt produce(Object event) {
+        Hermes<Object> hermes = Hermes.of(event);
+        HermesReceipt receipt = new HermesReceipt().setType(hermes.getType());
+        before(hermes);
+        if (!send(hermes))
+            return receipt;
+
+        return receipt.setId(hermes.getId())
+                .setPersisted(true)
+                .setPersistTime(LocalDateTime.now());
+    }
+
+    /**
+     * 发送事件
+     * Send event
+     *
+     * @param hermes Hermes事件对象
+     *               Hermes event object
+     * @return 是否已发送
+     * Whether it has been sent
+     * @since 2026-01-08
+     */
+    private boolean send(Hermes<Object> hermes) {
         if (Objects.nonNull(hermes.getGlobal())) {
             //  非全局事件，不发布到全局总线
             if (!hermes.global()) {
-                return;
+                return false;
             }
         }
         Set<String> sendTo = hermes.getSendTo();
         // 没人感兴趣此事件，不再发送到hermes
         if (Objects.isNull(sendTo) || sendTo.isEmpty())
-            return;
+            return false;
 
         // 包装为全局事件，发布到 Hermes
         boolean clusterAlive = hermes.isClusterAlive();
@@ -167,6 +213,7 @@ public class HermesProducer implements JvmOnlyListener<Object> {
             log.info("本地消息表发送事件：{}", hermes);
             this.hermesRepository.send(hermes);
         }
+        return true;
     }
 
     /**
@@ -185,18 +232,86 @@ public class HermesProducer implements JvmOnlyListener<Object> {
                 return;
             }
         }
+        prepare(wrapper);
+        this.hermesRepository.populateSendTo(wrapper);
+    }
+
+    /**
+     * 批量发布事件到分布式总线
+     * Publish a batch of events to distributed bus
+     * <pre>
+     *     同一批次内每种事件类型只查询一次订阅服务，整批事件通过{@link HermesRepository#sendBatch}
+     *     一次性持久化并发送通知
+     *     Subscribers are looked up once per event type within the batch, the whole batch is persisted
+     *     and notified at once through {@link HermesRepository#sendBatch}
+     * </pre>
+     *
+     * @param events 事件集合
+     *               Event collection
+     * @since 2026-01-08
+     */
+    @Override
+    public void onEvents(Collection<?> events) {
+        long start = System.nanoTime();
+        Map<String, Set<String>> routes = new HashMap<>();
+        List<Hermes<?>> batch = new ArrayList<>(events.size());
+        try {
+            for (Object event : events) {
+                Hermes<Object> hermes = Hermes.of(event);
+                //  非全局事件，不发布到全局总线
+                if (Objects.nonNull(hermes.getGlobal()) && !hermes.global())
+                    continue;
+
+                prepare(hermes);
+                Set<String> sendTo = routes.computeIfAbsent(hermes.getType(), type -> {
+                    this.hermesRepository.populateSendTo(hermes);
+                    return hermes.getSendTo();
+                });
+                // 没人感兴趣此事件，不再发送到hermes
+                if (sendTo.isEmpty())
+                    continue;
+                hermes.setSendTo(sendTo);
+                batch.add(hermes);
+            }
+            if (batch.isEmpty())
+                return;
+
+            // 通过事件中继集群发送
+            if (batch.get(0).isClusterAlive()) {
+                log.info("事件中继集群批量发布事件：{} 条", batch.size());
+                this.hermesCluster.sendBatch(batch);
+            }
+
+            // 通过本地消息表发送
+            else {
+                log.info("本地消息表批量发送事件：{} 条", batch.size());
+                this.hermesRepository.sendBatch(batch);
+            }
+
+            if (log.isDebugEnabled())
+                log.debug("批量发布事件[{} 条]耗时[{} 毫秒]", batch.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Throwable e) {
+            log.error("批量发布事件：{} 条,异常:{}", events.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 填充事件的发布者信息
+     * Populate publisher information of the event
+     *
+     * @param wrapper Hermes事件包装对象
+     *                Hermes event wrapper object
+     * @since 2026-01-08
+     */
+    private void prepare(Hermes<Object> wrapper) {
         wrapper.setSession(this.sessionSupplier.get());
         wrapper.setTrace(this.traceSupplier.get());
         wrapper.setSendFrom(this.serviceName.serviceName());
         if (Objects.isNull(wrapper.getGlobal()))
             wrapper.setGlobal(true);
-        this.hermesRepository.populateSendTo(wrapper);
         wrapper.setStatus("PENDING");
 
-        boolean alive = Optional.ofNullable(this.hermesCluster)
-                .map(HermesCluster::alive)
-                .orElse(false);
-
-        wrapper.setClusterAlive(alive);
+        HermesCluster cluster = this.hermesCluster;
+        wrapper.setClusterAlive(Objects.nonNull(cluster) && cluster.alive());
     }
-}
\ No newline at end of file
+}
@@ -20,16 +20,14 @@ import com.asialjim.microapplet.hermes.HermesService;
 import com.asialjim.microapplet.hermes.event.EventBus;
 import com.asialjim.microapplet.hermes.event.Hermes;
 import jakarta.annotation.PostConstruct;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.time.StopWatch;
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.time.LocalDateTime;
-import java.util.*;
+import java.util.Collection;
+import java.util.EventListener;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -52,7 +50,7 @@ public interface Listener<E> extends EventListener, Comparable<Listener<E>> {
      * @since 2026-01-08
      */
     default Logger log() {
-        return LoggerFactory.getLogger(this.getClass());
+        return ListenerMetadata.logger(this.getClass());
     }
 
     /**
@@ -112,9 +110,11 @@ public interface Listener<E> extends EventListener, Comparable<Listener<E>> {
      * @since 2026-01-08
      */
     default void onEvent(E event) {
-        StopWatch stopWatch = new StopWatch();
-        Hermes<E> hermes = wrapHermes(event);
-        onHermes(event, stopWatch, hermes);
+        if (!requireHermes() && !(event instanceof Hermes<?>)) {
+            onData(event);
+            return;
+        }
+        onHermes(event, Hermes.of(event));
     }
 
     /**
@@ -128,76 +128,121 @@ public interface Listener<E> extends EventListener, Comparable<Listener<E>> {
      * @since 2026-01-08
      */
     default void onEvent(String id, E event) {
-        StopWatch stopWatch = new StopWatch();
-        Hermes<E> hermes = wrapHermes(event).setId(id);
-        onHermes(event, stopWatch, hermes);
+        if (!requireHermes() && !(event instanceof Hermes<?>)) {
+            onData(event);
+            return;
+        }
+        onHermes(event, Hermes.of(event).setId(id));
     }
 
     /**
-     * 将事件包装为 Hermes
-     * Wrap event as Hermes
+     * 批量监听事件
+     * Listen to a batch of events
+     * <pre>
+     *     默认逐个调用{@link #onEvent(Object)}，需要摊薄批量开销（如批量持久化）的监听器可以覆写此方法
+     *     Calls {@link #onEvent(Object)} one by one by default,
+     *     listeners that can amortize per-batch costs (such as batch persistence) may override it
+     * </pre>
      *
-     * @param event 事件对象
-     *              Event object
-     * @return 包装后的Hermes事件
-     *         Wrapped Hermes event
+     * @param events 事件集合
+     *               Event collection
      * @since 2026-01-08
      */
-    private Hermes<E> wrapHermes(E event) {
-        if (event instanceof Hermes<?> hermes)
-            //noinspection unchecked
-            return (Hermes<E>) hermes;
+    default void onEvents(Collection<? extends E> events) {
+        for (E event : events) {
+            onEvent(event);
+        }
+    }
 
-        // 默认包装为全局事件
-        return new Hermes<E>()
-                .setGlobal(true)
-                .setSendTime(LocalDateTime.now())
-                .setType(event.getClass().getTypeName())
-                .setData(event);
+    /**
+     * 监听器是否需要 Hermes 元数据
+     * Whether the listener needs the Hermes metadata
+     * <pre>
+     *     返回{@code false}时，本地事件不再包装为{@link Hermes}，直接交由{@link #doOnData(Object)}处理，
+     *     {@link #before}、{@link #onAfter}、{@link #onError}、{@link #onFinal}均不会被调用
+     *     When returning {@code false}, local events are not wrapped as {@link Hermes} but handed to {@link #doOnData(Object)} directly,
+     *     {@link #before}, {@link #onAfter}, {@link #onError} and {@link #onFinal} are not called
+     * </pre>
+     *
+     * @return 默认返回{@code true}
+     * {@code true} by default
+     * @since 2026-01-08
+     */
+    default boolean requireHermes() {
+        return true;
+    }
+
+    /**
+     * 无需 Hermes 元数据时处理事件的核心方法
+     * Core method for event processing when no Hermes metadata is required
+     *
+     * @param data 事件对象
+     *             Event object
+     * @throws Throwable 事件处理过程中可能抛出的异常
+     *                   Exception that may be thrown during event processing
+     * @since 2026-01-08
+     */
+    default void doOnData(E data) throws Throwable {
+        doOnEvent(Hermes.of(data));
+    }
+
+    /**
+     * 监听器直接处理事件对象，不经过 Hermes 包装
+     * Listener processes the event object directly without Hermes wrapping
+     *
+     * @param event 原始事件对象
+     *              Original event object
+     * @since 2026-01-08
+     */
+    private void onData(E event) {
+        Logger log = log();
+        boolean debug = log.isDebugEnabled();
+        long start = debug ? System.nanoTime() : 0L;
+        try {
+            doOnData(event);
+            if (debug)
+                log.debug("监听事件[{}]处理耗时[{} 毫秒]", event, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Throwable e) {
+            if (debug) log.error("监听事件：{},异常:{}", event, e.getMessage(), e);
+            else log.info("监听事件：{},异常:{}", event, e.getMessage());
+        }
     }
 
     /**
      * 监听器处理 Hermes
      * Listener processes Hermes
      *
-     * @param event     原始事件对象
-     *                  Original event object
-     * @param stopWatch 计时器，用于统计处理时间
-     *                  Stopwatch for measuring processing time
-     * @param hermes    包装后的Hermes事件
-     *                  Wrapped Hermes event
+     * @param event  原始事件对象
+     *               Original event object
+     * @param hermes 包装后的Hermes事件
+     *               Wrapped Hermes event
      * @since 2026-01-08
      */
-    private void onHermes(E event, StopWatch stopWatch, Hermes<E> hermes) {
+    private void onHermes(E event, Hermes<E> hermes) {
+        Logger log = log();
+        boolean debug = log.isDebugEnabled();
+        long start = System.nanoTime();
         try {
-            stopWatch.start();
-            if (log().isDebugEnabled())
-                log().info("监听事件[{}]处理进入...", event);
+            if (debug)
+                log.debug("监听事件[{}]处理进入...", event);
             before(hermes);
-            if (log().isDebugEnabled())
-                log().info("监听事件[{}]处理开始...", event);
+            if (debug)
+                log.debug("监听事件[{}]处理开始...", event);
             doOnEvent(hermes);
-            if (log().isDebugEnabled())
-                log().info("监听事件[{}]处理结束...", event);
-            stopWatch.stop();
-            long time = stopWatch.getTime(TimeUnit.MILLISECONDS);
-            if (log().isDebugEnabled())
-                log().info("监听事件[{}]处理耗时[{} 毫秒]", event, time);
+            if (debug) {
+                log.debug("监听事件[{}]处理结束...", event);
+                log.debug("监听事件[{}]处理耗时[{} 毫秒]", event, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
             onAfter(hermes);
         } catch (Throwable e) {
-            if (log().isDebugEnabled()) log().error("监听事件：{},异常:{}", event, e.getMessage(), e);
-            else log().info("监听事件：{},异常:{}", event, e.getMessage());
+            if (debug) log.error("监听事件：{},异常:{}", event, e.getMessage(), e);
+            else log.info("监听事件：{},异常:{}", event, e.getMessage());
 
-            stopWatch.stop();
-            stopWatch.reset();
-
-            stopWatch.start();
+            start = System.nanoTime();
             onError(hermes, e);
-            stopWatch.stop();
 
-            long time = stopWatch.getTime(TimeUnit.MILLISECONDS);
-            if (log().isDebugEnabled())
-                log().info("监听事件[{}]异常回调耗时[{} 毫秒]", event, time);
+            if (debug)
+                log.debug("监听事件[{}]异常回调耗时[{} 毫秒]", event, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         } finally {
             onFinal(hermes);
         }
@@ -274,14 +319,7 @@ public interface Listener<E> extends EventListener, Comparable<Listener<E>> {
      * @since 2026-01-08
      */
     default Set<Type> eventType() {
-        Set<Type> res = new HashSet<>();
-        Class<?> beanClass = this.getClass();
-        Set<Type> genericInterfaces = new HashSet<>();
-        genericInterfaces(genericInterfaces, beanClass);
-        for (Type type : genericInterfaces) {
-            addType(type, res);
-        }
-        return res;
+        return ListenerMetadata.eventTypes(this.getClass());
     }
 
     /**
@@ -313,84 +351,4 @@ public interface Listener<E> extends EventListener, Comparable<Listener<E>> {
                 .map(Type::getTypeName)
                 .anyMatch(item -> StringUtils.equals(objectType, item));
     }
-
-    /**
-     * 将符合条件的类型添加到结果集合中
-     * Add qualified types to the result set
-     *
-     * @param type 类型对象
-     *             Type object
-     * @param res  结果集合
-     *             Result set
-     * @since 2026-01-08
-     */
-    private static void addType(Type type, Set<Type> res) {
-        if (Objects.isNull(type))
-            return;
-
-        if (!(type instanceof ParameterizedType parameterizedType))
-            return;
-
-        Type rawType = parameterizedType.getRawType();
-        if (!candidateType(rawType))
-            return;
-
-        // 获取接口的泛型参数
-        Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
-        if (ArrayUtils.isEmpty(actualTypeArguments))
-            return;
-
-        Collections.addAll(res, actualTypeArguments);
-    }
-
-    /**
-     * 检查类型是否为Listener接口或其子接口
-     * Check if the type is Listener interface or its subinterface
-     *
-     * @param rawType 原始类型对象
-     *                Raw type object
-     * @return 是否为Listener类型
-     *         Whether it is a Listener type
-     * @since 2026-01-08
-     */
-    private static boolean candidateType(Type rawType) {
-        if (Objects.isNull(rawType))
-            return false;
-        String typeName = rawType.getTypeName();
-        if (StringUtils.isBlank(typeName))
-            return false;
-        try {
-            Class<?> aClass = Class.forName(typeName);
-            return Listener.class.isAssignableFrom(aClass);
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
-    }
-
-    /**
-     * 递归获取类的所有泛型接口
-     * Recursively get all generic interfaces of the class
-     *
-     * @param types 泛型接口集合
-     *              Set of generic interfaces
-     * @param clazz 类对象
-     *              Class object
-     * @since 2026-01-08
-     */
-    private static void genericInterfaces(Set<Type> types, Class<?> clazz) {
-        if (Objects.isNull(types) || Objects.isNull(clazz))
-            return;
-        Type[] genericInterfaces = clazz.getGenericInterfaces();
-        if (ArrayUtils.isNotEmpty(genericInterfaces))
-            types.addAll(Arrays.asList(genericInterfaces));
-        Class<?> superclass = clazz.getSuperclass();
-        if (Objects.isNull(superclass))
-            return;
-        if (superclass.isAssignableFrom(Object.class))
-            return;
-        if (Listener.class.isAssignableFrom(superclass)) {
-            types.add(clazz.getGenericSuperclass());
-            genericInterfaces(types, superclass);
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.listener;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * 监听器类型元数据缓存
+ * Listener class metadata cache
+ * <pre>
+ *     日志记录器与通过反射解析出的事件类型只与监听器的类有关，按类缓存后事件分发时无需重复计算
+ *     Loggers and reflectively resolved event types only depend on the listener class,
+ *     caching them per class keeps them off the dispatch path
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+final class ListenerMetadata {
+    /**
+     * 监听器类 -> 日志记录器
+     * Listener class -> logger
+     */
+    private static final ClassValue<Logger> LOGGERS = new ClassValue<>() {
+        @Override
+        protected Logger computeValue(Class<?> type) {
+            return LoggerFactory.getLogger(type);
+        }
+    };
+
+    /**
+     * 监听器类 -> 泛型声明的事件类型
+     * Listener class -> event types declared by generics
+     */
+    private static final ClassValue<Set<Type>> EVENT_TYPES = new ClassValue<>() {
+        @Override
+        protected Set<Type> computeValue(Class<?> type) {
+            Set<Type> res = new HashSet<>();
+            Set<Type> genericInterfaces = new HashSet<>();
+            genericInterfaces(genericInterfaces, type);
+            for (Type item : genericInterfaces) {
+                addType(item, res);
+            }
+            return Collections.unmodifiableSet(res);
+        }
+    };
+
+    private ListenerMetadata() {
+    }
+
+    /**
+     * 获取监听器类的日志记录器
+     * Get the logger of the listener class
+     *
+     * @param type 监听器类
+     *             Listener class
+     * @return 日志记录器
+     * Logger
+     * @since 2026-01-08
+     */
+    static Logger logger(Class<?> type) {
+        return LOGGERS.get(type);
+    }
+
+    /**
+     * 获取监听器类通过泛型声明的事件类型
+     * Get the event types declared by the generics of the listener class
+     *
+     * @param type 监听器类
+     *             Listener class
+     * @return 不可变的事件类型集合
+     * Immutable set of event types
+     * @since 2026-01-08
+     */
+    static Set<Type> eventTypes(Class<?> type) {
+        return EVENT_TYPES.get(type);
+    }
+
+    /**
+     * 将符合条件的类型添加到结果集合中
+     * Add qualified types to the result set
+     *
+     * @param type 类型对象
+     *             Type object
+     * @param res  结果集合
+     *             Result set
+     * @since 2026-01-08
+     */
+    private static void addType(Type type, Set<Type> res) {
+        if (Objects.isNull(type))
+            return;
+
+        if (!(type instanceof ParameterizedType parameterizedType))
+            return;
+
+        Type rawType = parameterizedType.getRawType();
+        if (!candidateType(rawType))
+            return;
+
+        // 获取接口的泛型参数
+        Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
+        if (ArrayUtils.isEmpty(actualTypeArguments))
+            return;
+
+        Collections.addAll(res, actualTypeArguments);
+    }
+
+    /**
+     * 检查类型是否为Listener接口或其子接口
+     * Check if the type is Listener interface or its subinterface
+     *
+     * @param rawType 原始类型对象
+     *                Raw type object
+     * @return 是否为Listener类型
+     *         Whether it is a Listener type
+     * @since 2026-01-08
+     */
+    private static boolean candidateType(Type rawType) {
+        if (rawType instanceof Class<?> aClass)
+            return Listener.class.isAssignableFrom(aClass);
+        return false;
+    }
+
+    /**
+     * 递归获取类的所有泛型接口
+     * Recursively get all generic interfaces of the class
+     *
+     * @param types 泛型接口集合
+     *              Set of generic interfaces
+     * @param clazz 类对象
+     *              Class object
+     * @since 2026-01-08
+     */
+    private static void genericInterfaces(Set<Type> types, Class<?> clazz) {
+        if (Objects.isNull(types) || Objects.isNull(clazz))
+            return;
+        Type[] genericInterfaces = clazz.getGenericInterfaces();
+        if (ArrayUtils.isNotEmpty(genericInterfaces))
+            types.addAll(Arrays.asList(genericInterfaces));
+        Class<?> superclass = clazz.getSuperclass();
+        if (Objects.isNull(superclass))
+            return;
+        if (superclass.isAssignableFrom(Object.class))
+            return;
+        if (Listener.class.isAssignableFrom(superclass)) {
+            types.add(clazz.getGenericSuperclass());
+            genericInterfaces(types, superclass);
+        }
+    }
+}
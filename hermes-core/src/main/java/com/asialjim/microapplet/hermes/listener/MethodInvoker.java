@@ -0,0 +1,144 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.listener;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.*;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+/**
+ * 被 {@link com.asialjim.microapplet.hermes.annotation.OnEvent} 标记方法的调用器
+ * Invoker of the method marked with {@link com.asialjim.microapplet.hermes.annotation.OnEvent}
+ * <pre>
+ *     在监听器创建时通过 {@link LambdaMetafactory} 为目标方法生成强类型实现，调用时不再经过反射访问检查，
+ *     可被 JIT 内联，方法抛出的异常原样抛出；生成失败时依次退化为 {@link MethodHandle} 与反射调用
+ *     A strongly typed implementation is generated by {@link LambdaMetafactory} when the listener is created,
+ *     it skips the reflective access check, can be inlined by the JIT and rethrows the original exception;
+ *     falls back to {@link MethodHandle} and then to reflection if generation fails
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+
+    /**
+     * 使用事件调用目标方法
+     * Invoke the target method with the event
+     *
+     * @param event 事件对象
+     *              Event object
+     * @throws Throwable 目标方法抛出的原始异常
+     *                   Original exception thrown by the target method
+     * @since 2026-01-08
+     */
+    void invoke(Object event) throws Throwable;
+
+    /**
+     * 为指定Bean的方法创建调用器
+     * Create an invoker for the method of the given bean
+     *
+     * @param bean   目标Bean实例
+     *               Target bean instance
+     * @param method 只有一个参数的目标方法
+     *               Target method with exactly one parameter
+     * @return 调用器
+     * Invoker
+     * @since 2026-01-08
+     */
+    static MethodInvoker of(Object bean, Method method) {
+        Objects.requireNonNull(bean, "bean");
+        Objects.requireNonNull(method, "method");
+        try {
+            return Factory.lambda(bean, method);
+        } catch (Throwable lambdaEx) {
+            Factory.log.debug("Generate lambda invoker for {} failed, fallback to method handle: {}", method, lambdaEx.getMessage());
+        }
+
+        try {
+            return Factory.handle(bean, method);
+        } catch (Throwable handleEx) {
+            Factory.log.debug("Generate method handle invoker for {} failed, fallback to reflection: {}", method, handleEx.getMessage());
+        }
+
+        return Factory.reflect(bean, method);
+    }
+
+    /**
+     * 调用器工厂
+     * Invoker factory
+     *
+     * @since 2026-01-08
+     */
+    @Slf4j
+    final class Factory {
+        private Factory() {
+        }
+
+        /**
+         * 通过 {@link LambdaMetafactory} 生成绑定了Bean的调用器
+         * Generate an invoker bound to the bean through {@link LambdaMetafactory}
+         */
+        private static MethodInvoker lambda(Object bean, Method method) throws Throwable {
+            Class<?> declaringClass = method.getDeclaringClass();
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            MethodHandle target = lookup.unreflect(method);
+            Class<?> parameterType = MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType();
+
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "invoke",
+                    MethodType.methodType(MethodInvoker.class, declaringClass),
+                    MethodType.methodType(void.class, Object.class),
+                    target,
+                    MethodType.methodType(void.class, parameterType));
+            return (MethodInvoker) site.getTarget().invoke(bean);
+        }
+
+        /**
+         * 通过绑定了Bean的 {@link MethodHandle} 生成调用器
+         * Generate an invoker through a {@link MethodHandle} bound to the bean
+         */
+        private static MethodInvoker handle(Object bean, Method method) throws Throwable {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(method)
+                    .bindTo(bean)
+                    .asType(MethodType.methodType(void.class, Object.class));
+            return event -> handle.invokeExact(event);
+        }
+
+        /**
+         * 反射调用器，拆出 {@link InvocationTargetException} 中的原始异常
+         * Reflective invoker, unwraps the original exception from {@link InvocationTargetException}
+         */
+        private static MethodInvoker reflect(Object bean, Method method) {
+            method.trySetAccessible();
+            return event -> {
+                try {
+                    method.invoke(bean, event);
+                } catch (InvocationTargetException e) {
+                    throw Objects.requireNonNullElse(e.getCause(), e);
+                }
+            };
+        }
+    }
+}
@@ -23,7 +23,6 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.Set;
@@ -55,16 +54,10 @@ public class MethodListener<Event> implements Listener<Event> {
     private final HermesRepository hermesRepository;
     
     /**
-     * 目标Bean实例
-     * Target Bean instance
+     * 被@OnEvent注解标记方法的调用器
+     * Invoker of the method marked with @OnEvent annotation
      */
-    private final Object bean;
-    
-    /**
-     * 被@OnEvent注解标记的方法
-     * Method marked with @OnEvent annotation
-     */
-    private final Method method;
+    private final MethodInvoker invoker;
     
     /**
      * 事件类型
@@ -79,6 +72,13 @@ public class MethodListener<Event> implements Listener<Event> {
     @Getter
     private final int order;
 
+    /**
+     * 监听器名称，用于记录每个监听器的处理结果
+     * Listener name, used to record the outcome of each listener
+     */
+    @Getter
+    private final String name;
+
     /**
      * 获取当前监听器感兴趣的事件类型集合
      * Get the set of event types that the current listener is interested in
@@ -104,7 +104,13 @@ public class MethodListener<Event> implements Listener<Event> {
      */
     @Override
     public void doOnEvent(Hermes<Event> event) throws Throwable {
-        method.invoke(bean, event.getData());
+        // 重新投递时跳过已成功处理过该事件的监听器
+        if (this.hermesRepository.consumed(event.getId(), this.serviceName.serviceName(), this.name)) {
+            if (log.isDebugEnabled())
+                log.debug("监听器[{}]已成功处理事件[{}]，跳过", this.name, event.getId());
+            return;
+        }
+        invoker.invoke(event.getData());
     }
 
     /**
@@ -140,7 +146,7 @@ public class MethodListener<Event> implements Listener<Event> {
         String application = this.serviceName.serviceName();
         String err = throwable.getMessage();
 
-        this.hermesRepository.errorEvent(eventId,application,err);
+        this.hermesRepository.errorEvent(eventId,application,this.name,err);
     }
 
     /**
@@ -156,6 +162,6 @@ public class MethodListener<Event> implements Listener<Event> {
         String eventId = hermes.getId();
         String application = this.serviceName.serviceName();
 
-        this.hermesRepository.succeedEvent(eventId,application);
+        this.hermesRepository.succeedEvent(eventId,application,this.name);
     }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.asialjim.microapplet.hermes.event.Hermes;
 import com.asialjim.microapplet.hermes.sender.HermesSender;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -87,6 +88,29 @@ public interface HermesRepository extends HermesSender {
      */
     Hermes<?> queryAvailableHermesByIdAndServiceName(String id, String serviceName);
 
+    /**
+     * 根据中间件通知查询可用的事件
+     * Query available event by the middleware notification
+     * <pre>
+     *     通知可能是事件编号，也可能是实现类随通知发送的完整事件，默认按事件编号处理；
+     *     实现类可以覆写此方法，直接使用通知中的事件，只认领消费记录，省去回查事件的网络往返
+     *     The notification is either the event ID or the complete event carried by the implementation,
+     *     it is treated as the event ID by default; implementations may override this method to use the event in the
+     *     notification directly and only claim the consumption record, saving the round trips of reading it back
+     * </pre>
+     *
+     * @param notification {@link String notification}
+     *                     Middleware notification
+     * @param serviceName  {@link String serviceName}
+     *                     Service name
+     * @return {@link Hermes }
+     *         Hermes event
+     * @since 2026-01-08
+     */
+    default Hermes<?> queryAvailableHermes(String notification, String serviceName) {
+        return queryAvailableHermesByIdAndServiceName(notification, serviceName);
+    }
+
     /**
      * 记录服务对指定事件的处理结果
      * Record the processing result of the specified event by the service
@@ -109,9 +133,11 @@ public interface HermesRepository extends HermesSender {
      *
      * @param serviceName {@link String serviceName}
      *                   Service name
+     * @return 本次补偿消费的事件数量，用于调整下一次补偿消费的间隔
+     *         Number of events consumed in this round, used to adapt the interval of the next round
      * @since 1.0.0
      */
-    void reConsumption(String serviceName);
+    int reConsumption(String serviceName);
 
     /**
      * 标记事件正在被处理
@@ -151,5 +177,129 @@ public interface HermesRepository extends HermesSender {
      */
     void succeedEvent(String eventId, String application);
 
+    /**
+     * 指定监听器是否已成功处理过该事件
+     * Whether the specified listener has already processed the event successfully
+     * <pre>
+     *     事件重新投递时，已成功的监听器不再重复执行，避免重复产生副作用；默认总是返回 {@code false}
+     *     When the event is redelivered, listeners that already succeeded are not run again so side effects are not
+     *     repeated; always {@code false} by default
+     * </pre>
+     *
+     * @param eventId     事件ID
+     *                    Event ID
+     * @param application 应用服务名称
+     *                    Application service name
+     * @param listener    监听器名称
+     *                    Listener name
+     * @return 是否已成功处理
+     * Whether it was processed successfully
+     * @since 2026-01-08
+     */
+    default boolean consumed(String eventId, String application, String listener) {
+        return false;
+    }
+
+    /**
+     * 记录指定监听器处理事件失败
+     * Record the processing failure of the event by the specified listener
+     * <pre>
+     *     默认只记录服务对事件的处理失败，实现类可以覆写此方法同时保存监听器的处理结果
+     *     Only the failure of the service is recorded by default, implementations may override this method to also
+     *     keep the outcome of the listener
+     * </pre>
+     *
+     * @param eventId     事件ID
+     *                    Event ID
+     * @param application 应用服务名称
+     *                    Application service name
+     * @param listener    监听器名称
+     *                    Listener name
+     * @param err         错误信息
+     *                    Error information
+     * @since 2026-01-08
+     */
+    default void errorEvent(String eventId, String application, String listener, String err) {
+        errorEvent(eventId, application, err);
+    }
+
+    /**
+     * 记录指定监听器处理事件成功
+     * Record the processing success of the event by the specified listener
+     * <pre>
+     *     默认记录服务对事件的处理成功，实现类可以覆写此方法只保存监听器的处理结果，由服务的整体处理结果决定消费记录状态
+     *     The success of the service is recorded by default, implementations may override this method to keep only the
+     *     outcome of the listener and leave the consumption record to the overall result of the service
+     * </pre>
+     *
+     * @param eventId     事件ID
+     *                    Event ID
+     * @param application 应用服务名称
+     *                    Application service name
+     * @param listener    监听器名称
+     *                    Listener name
+     * @since 2026-01-08
+     */
+    default void succeedEvent(String eventId, String application, String listener) {
+        succeedEvent(eventId, application);
+    }
+
+    /**
+     * 批量记录指定监听器处理一批事件失败
+     * Record the processing failure of a batch of events by the specified listener
+     *
+     * @param eventIds    事件ID集合
+     *                    Event IDs
+     * @param application 应用服务名称
+     *                    Application service name
+     * @param listener    监听器名称
+     *                    Listener name
+     * @param err         错误信息
+     *                    Error information
+     * @since 2026-01-08
+     */
+    default void errorEvents(Collection<String> eventIds, String application, String listener, String err) {
+        for (String eventId : eventIds) {
+            errorEvent(eventId, application, listener, err);
+        }
+    }
+
+    /**
+     * 批量记录指定监听器处理一批事件成功
+     * Record the processing success of a batch of events by the specified listener
+     *
+     * @param eventIds    事件ID集合
+     *                    Event IDs
+     * @param application 应用服务名称
+     *                    Application service name
+     * @param listener    监听器名称
+     *                    Listener name
+     * @since 2026-01-08
+     */
+    default void succeedEvents(Collection<String> eventIds, String application, String listener) {
+        for (String eventId : eventIds) {
+            succeedEvent(eventId, application, listener);
+        }
+    }
+
     void pingPong(HermesService hermesService);
+
+    /**
+     * 释放指定服务实例持有的全部处理中记录
+     * Release all processing records held by the specified service instance
+     * <pre>
+     *     实例停止时调用：写入尚未写入的消费状态，将仍在处理中的记录重新入队并通知同服务的其他实例，
+     *     同时从心跳中移除该实例，使其他实例无需等待租约过期；默认不做任何处理
+     *     Called when the instance stops: writes the pending consumption states, requeues the records still in
+     *     processing and notifies the other instances of the same service, and removes the instance from the heartbeat
+     *     so the others do not wait for the lease to expire; does nothing by default
+     * </pre>
+     *
+     * @param hermesService 停止中的服务实例
+     *                      Service instance being stopped
+     * @since 2026-01-08
+     */
+    default void release(HermesService hermesService) {
+        // do nothing here default
+    }
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ package com.asialjim.microapplet.hermes.sender;
 
 import com.asialjim.microapplet.hermes.event.Hermes;
 
+import java.util.Collection;
+
 /**
  * Hermes 事件邮递员
  * Hermes Event Postman
@@ -52,6 +54,25 @@ public interface HermesSender {
         publish(hermes);
     }
 
+    /**
+     * 批量发送 Hermes 到事件编目
+     * Send a batch of Hermes to event catalog
+     * <pre>
+     *     默认逐个调用{@link #send(Hermes)}，实现类可以覆写此方法，使用批量写入与批量通知减少网络往返
+     *     Calls {@link #send(Hermes)} one by one by default, implementations may override it
+     *     to reduce round trips with batch writes and batch notifications
+     * </pre>
+     *
+     * @param batch Hermes事件集合
+     *              Hermes event collection
+     * @since 2026-01-08
+     */
+    default void sendBatch(Collection<? extends Hermes<?>> batch) {
+        for (Hermes<?> hermes : batch) {
+            send(hermes);
+        }
+    }
+
     /**
      * 发送前处理，发送前，对事件进行预处理，如：设置全局事件编号
      * Pre-send processing, preprocess the event before sending, such as: setting global event ID
@@ -0,0 +1,81 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.infrastructure.config.commit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Hermes 组提交属性配置类
+ * <p>
+ * 该类用于读取事件发送的组提交配置，开启后并发生产者发送的事件由一个写入线程收集，
+ * 在同一事务内使用多行插入语句保存事件与消费记录，提交后统一唤醒等待的生产者。
+ * Hermes group commit property configuration class
+ * <p>
+ * This class is used to read the group commit configuration of event sending, when enabled the events sent by
+ * concurrent producers are gathered by one writer thread, events and consumption records are saved with
+ * multi-row insert statements in one transaction and all waiting producers are released after the commit.
+ *
+ * @author Asial Jim
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "hermes.group-commit")
+public class HermesGroupCommitProperty implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -4170623508236219813L;
+
+    /**
+     * 是否开启组提交
+     * <p>
+     * 调用方已处于事务中时始终直接写入，保证事件与业务数据在同一事务内提交
+     * Whether group commit is enabled
+     * <p>
+     * Events are always written directly when the caller is already in a transaction,
+     * so they commit together with the business data
+     */
+    private boolean enabled = true;
+
+    /**
+     * 单次组提交的最大事件数
+     * Maximum number of events per group commit
+     */
+    private int maxBatchSize = 256;
+
+    /**
+     * 收到第一个事件后等待更多事件的最长时间（毫秒）
+     * <p>
+     * 为0时只合并上一次提交期间积压的事件，不额外增加延迟
+     * Maximum time in milliseconds to wait for more events after the first one arrives
+     * <p>
+     * When 0, only events queued up during the previous commit are merged and no extra latency is added
+     */
+    private long maxWaitMillis = 0;
+
+    /**
+     * 等待写入的事件队列容量，队列满时生产者阻塞
+     * Capacity of the pending event queue, producers block when it is full
+     */
+    private int queueCapacity = 8192;
+}
@@ -0,0 +1,90 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.infrastructure.config.consume;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Hermes 消费属性配置类
+ * <p>
+ * 该类用于读取事件消费的配置，包括补偿消费时每次认领的事件数量、消费失败后的重试退避策略以及处理租约时长。
+ * Hermes consumption property configuration class
+ * <p>
+ * This class is used to read the event consumption configuration, including the number of events claimed per round of
+ * compensation consumption, the retry backoff policy after a consumption fails and the processing lease duration.
+ *
+ * @author Asial Jim
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "hermes.consume")
+public class HermesConsumeProperty implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2217364851906520394L;
+
+    /**
+     * 补偿消费时每次认领并并行处理的最大事件数
+     * Maximum number of events claimed and handled concurrently per round of compensation consumption
+     */
+    private int reConsumptionBatchSize = 100;
+
+    /**
+     * 消费失败后的最大重试次数，超过后消费记录进入死信状态
+     * Maximum number of retries after a consumption fails, the consumption record becomes dead once exceeded
+     */
+    private int maxRetryTimes = 16;
+
+    /**
+     * 第一次重试的退避时间（毫秒），之后每次重试翻倍
+     * Backoff in milliseconds before the first retry, doubled on every further retry
+     */
+    private long retryInitialDelayMillis = 1000;
+
+    /**
+     * 重试退避时间的上限（毫秒）
+     * Upper bound in milliseconds of the retry backoff
+     */
+    private long retryMaxDelayMillis = 600000;
+
+    /**
+     * 处理租约时长（毫秒），由实例心跳续约，应大于心跳间隔
+     * Processing lease duration in milliseconds, renewed by the instance heartbeat, should exceed the heartbeat interval
+     */
+    private long leaseMillis = 120000;
+
+    /**
+     * 同一次投递的处理租约最长可续约的时间（毫秒），超过后视为卡住的处理不再续约，租约过期后重新入队
+     * Longest time in milliseconds the processing lease of one delivery can be renewed, processing beyond it is
+     * considered stuck and no longer renewed, so it is requeued once its lease expires
+     */
+    private long maxLeaseRenewMillis = 600000;
+
+    /**
+     * 实例停止时等待补偿消费结束与排空异步监听器的期限（毫秒），超时后未处理完的事件重新投递给其他实例
+     * Deadline in milliseconds for waiting compensation consumption and draining async listeners when the instance
+     * stops, unfinished events are redelivered to other instances after it
+     */
+    private long shutdownTimeoutMillis = 30000;
+}
@@ -0,0 +1,157 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.infrastructure.config.dispatcher;
+
+import com.asialjim.microapplet.hermes.HermesService;
+import com.asialjim.microapplet.hermes.dispatcher.RingBufferDispatcher;
+import com.asialjim.microapplet.hermes.dispatcher.VirtualThreadDispatcher;
+import com.asialjim.microapplet.hermes.event.EventBus;
+import com.asialjim.microapplet.hermes.infrastructure.config.consume.HermesConsumeProperty;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 异步分发配置类
+ * <p>
+ * 该类负责按配置创建 {@code @OnEvent(async = true)} 监听器使用的异步分发器。
+ * Async dispatch configuration class
+ * <p>
+ * This class is responsible for creating the async dispatcher used by {@code @OnEvent(async = true)} listeners according to the configuration.
+ *
+ * @author Asial Jim
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Configuration
+public class HermesAsyncConfig {
+
+    /**
+     * 异步分发属性配置
+     * Async dispatch property configuration
+     */
+    @Resource
+    private HermesAsyncProperty property;
+
+    /**
+     * 消费属性配置，提供实例停止时排空异步监听器的期限
+     * Consume property configuration, providing the deadline for draining async listeners when the instance stops
+     */
+    @Resource
+    private HermesConsumeProperty consumeProperty;
+
+    /**
+     * 并行分发执行器
+     * Fan-out executor
+     */
+    private ExecutorService fanOutExecutor;
+
+    /**
+     * 按配置开启事件总线的并行分发
+     * <p>
+     * {@code hermes.async.fan-out=true} 时，事件总线在虚拟线程上并行执行执行顺序相同的监听器。
+     * Enable event bus fan-out according to the configuration
+     * <p>
+     * When {@code hermes.async.fan-out=true}, the event bus runs listeners sharing the same order concurrently on virtual threads.
+     *
+     * @since 2026-01-08
+     */
+    @PostConstruct
+    public void fanOut() {
+        if (!property.isFanOut())
+            return;
+        this.fanOutExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("hermes-fan-out-", 0).factory());
+        EventBus.fanOut(this.fanOutExecutor);
+    }
+
+    /**
+     * 关闭并行分发执行器，事件总线恢复为顺序执行
+     * <p>
+     * 容器关闭时调用。
+     * Close the fan-out executor, the event bus falls back to sequential dispatch
+     * <p>
+     * Called when the container closes.
+     *
+     * @since 2026-01-08
+     */
+    @PreDestroy
+    public void closeFanOut() {
+        if (Objects.isNull(this.fanOutExecutor))
+            return;
+        EventBus.fanOut(null);
+        this.fanOutExecutor.close();
+    }
+
+    /**
+     * 创建环形缓冲区异步分发器
+     * <p>
+     * {@code hermes.async.mode=ring} 时所有异步监听器使用该分发器，否则仅用于带顺序键的事件；
+     * 消费线程在第一次分发时启动，容器关闭时处理完缓冲区中的事件后停止。
+     * Create ring buffer async dispatcher
+     * <p>
+     * All async listeners use it when {@code hermes.async.mode=ring}, otherwise it is only used for events with an ordering key;
+     * consumer threads start on the first dispatch and stop after processing the buffered events when the container closes.
+     *
+     * @param hermesService Hermes 服务名称组件，用于命名工作线程
+     * @return RingBufferDispatcher 实例
+     * @since 2026-01-08
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean(RingBufferDispatcher.class)
+    public RingBufferDispatcher ringBufferDispatcher(HermesService hermesService) {
+        return new RingBufferDispatcher(
+                hermesService.serviceName(),
+                property.getLanes(),
+                property.getBufferSize(),
+                property.getBatchSize(),
+                property.getWaitStrategy(),
+                property.getCloseTimeoutMillis()
+        );
+    }
+
+    /**
+     * 创建虚拟线程异步分发器
+     * <p>
+     * 供 {@code @OnEvent(async = true, executor = ExecutorType.VIRTUAL)} 监听器使用，并发事件数受 {@code hermes.async.virtual-max-concurrency} 限制；
+     * 关闭时最多等待 {@code hermes.consume.shutdown-timeout-millis} 让正在处理的事件完成。
+     * Create virtual thread async dispatcher
+     * <p>
+     * Used by {@code @OnEvent(async = true, executor = ExecutorType.VIRTUAL)} listeners,
+     * the number of concurrent events is capped by {@code hermes.async.virtual-max-concurrency};
+     * on close it waits up to {@code hermes.consume.shutdown-timeout-millis} for in-flight events.
+     *
+     * @param hermesService Hermes 服务名称组件，用于命名虚拟线程
+     * @return VirtualThreadDispatcher 实例
+     * @since 2026-01-08
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean(VirtualThreadDispatcher.class)
+    public VirtualThreadDispatcher virtualThreadDispatcher(HermesService hermesService) {
+        return new VirtualThreadDispatcher(
+                hermesService.serviceName(),
+                property.getVirtualMaxConcurrency(),
+                consumeProperty.getShutdownTimeoutMillis()
+        );
+    }
+}
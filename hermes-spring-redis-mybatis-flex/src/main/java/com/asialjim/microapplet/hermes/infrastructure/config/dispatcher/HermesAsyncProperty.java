@@ -0,0 +1,106 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.infrastructure.config.dispatcher;
+
+import com.asialjim.microapplet.hermes.dispatcher.WaitStrategy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Hermes 异步分发属性配置类
+ * <p>
+ * 该类用于读取 {@code @OnEvent(async = true)} 监听器的异步分发配置，{@code hermes.async.mode=ring} 时所有异步监听器使用环形缓冲区分发器，
+ * 否则环形缓冲区分发器只处理带顺序键的事件。
+ * Hermes async dispatch property configuration class
+ * <p>
+ * This class is used to read the async dispatch configuration of {@code @OnEvent(async = true)} listeners,
+ * all async listeners use the ring buffer dispatcher when {@code hermes.async.mode=ring},
+ * otherwise the ring buffer dispatcher only handles events with an ordering key.
+ *
+ * @author Asial Jim
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "hermes.async")
+public class HermesAsyncProperty implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3861620318705826617L;
+
+    /**
+     * 异步分发模式
+     * <p>
+     * executor：每个事件提交到执行器（默认）；ring：使用环形缓冲区分发器
+     * Async dispatch mode
+     * <p>
+     * executor: submit each event to the executor (default); ring: use the ring buffer dispatcher
+     */
+    private String mode = "executor";
+
+    /**
+     * 通道（消费线程）数量
+     * Number of lanes (consumer threads)
+     */
+    private int lanes = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 每个通道的缓冲区大小，向上取整为2的幂
+     * Buffer size of each lane, rounded up to a power of two
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * 单次批量处理的最大事件数
+     * Maximum number of events processed per batch
+     */
+    private int batchSize = 256;
+
+    /**
+     * 消费线程的等待策略
+     * Wait strategy of consumer threads
+     */
+    private WaitStrategy waitStrategy = WaitStrategy.BLOCKING;
+
+    /**
+     * 关闭环形缓冲区分发器时等待缓冲区事件处理完毕的最长毫秒数
+     * Maximum milliseconds to wait for the buffered events when closing the ring buffer dispatcher
+     */
+    private long closeTimeoutMillis = 30000L;
+
+    /**
+     * 虚拟线程执行方式下的最大并发事件数
+     * Maximum number of concurrent events in virtual thread mode
+     */
+    private int virtualMaxConcurrency = 10000;
+
+    /**
+     * 是否并行执行同一事件上执行顺序相同的监听器
+     * <p>
+     * 开启后，执行顺序相同的监听器在虚拟线程上并行执行，不同执行顺序的监听器仍按顺序分组依次执行
+     * Whether listeners of the same event sharing the same order run concurrently
+     * <p>
+     * When enabled, listeners sharing the same order run concurrently on virtual threads,
+     * groups of different order still run one after another
+     */
+    private boolean fanOut = false;
+}
@@ -0,0 +1,119 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.infrastructure.config.id;
+
+import com.asialjim.microapplet.hermes.HermesService;
+import com.asialjim.microapplet.hermes.id.HermesIdGenerator;
+import com.asialjim.microapplet.hermes.id.SnowflakeIdGenerator;
+import com.mybatisflex.core.keygen.KeyGeneratorFactory;
+import com.mybatisflex.spring.boot.MyBatisFlexCustomizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 编号生成配置类
+ * <p>
+ * 该类负责创建 Hermes 编号生成器，并将其注册为 MyBatis Flex 主键生成器，供事件、消费记录等表使用。
+ * 默认使用以 {@code hermes.id.node-id} 或从 Redis 租用的节点编号的雪花算法生成器，可通过声明 {@link HermesIdGenerator} Bean 替换。
+ * Id generation configuration class
+ * <p>
+ * This class is responsible for creating the Hermes id generator and registering it as the MyBatis Flex key generator
+ * used by the event, consumption and other tables.
+ * The default is a snowflake generator whose node id is {@code hermes.id.node-id} or leased from Redis,
+ * it can be replaced by declaring a {@link HermesIdGenerator} bean.
+ *
+ * @author Asial Jim
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Slf4j
+@Configuration
+public class HermesIdConfig {
+
+    /**
+     * MyBatis Flex 主键生成器名称
+     * Name of the MyBatis Flex key generator
+     */
+    public static final String KEY_GENERATOR = "hermesId";
+
+    /**
+     * 未配置 {@code hermes.id.node-id} 时从 Redis 租用节点编号
+     * <p>
+     * 没有可用的节点编号时启动失败；租约随心跳续期，容器关闭时释放。
+     * Lease a node id from Redis when {@code hermes.id.node-id} is not configured
+     * <p>
+     * Startup fails when no node id is available; the lease is renewed with the heartbeat and released when the
+     * container closes.
+     *
+     * @param hermesService       Hermes 服务组件，用于获取实例编号
+     * @param stringRedisTemplate Redis 模板
+     * @return 节点编号租约
+     * @since 2026-01-08
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean({HermesIdGenerator.class, HermesNodeIdLease.class})
+    @ConditionalOnExpression("'${hermes.id.node-id:}'.isEmpty()")
+    public HermesNodeIdLease hermesNodeIdLease(HermesService hermesService, StringRedisTemplate stringRedisTemplate) {
+        return new HermesNodeIdLease(stringRedisTemplate, hermesService.instanceId());
+    }
+
+    /**
+     * 创建默认的雪花算法编号生成器
+     * <p>
+     * 未配置 {@code hermes.id.node-id} 时使用从 Redis 租用的节点编号。
+     * Create the default snowflake id generator
+     * <p>
+     * The node id leased from Redis is used when {@code hermes.id.node-id} is not configured.
+     *
+     * @param environment       Spring 环境，用于读取节点编号配置
+     * @param hermesNodeIdLease 节点编号租约
+     * @return 编号生成器
+     * @since 2026-01-08
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public HermesIdGenerator hermesIdGenerator(Environment environment, ObjectProvider<HermesNodeIdLease> hermesNodeIdLease) {
+        Long nodeId = environment.getProperty("hermes.id.node-id", Long.class);
+        if (nodeId == null)
+            nodeId = hermesNodeIdLease.getObject().getNodeId();
+        log.info("Hermes id generator node: {}", nodeId);
+        return new SnowflakeIdGenerator(nodeId);
+    }
+
+    /**
+     * 在 MyBatis Flex 初始化时注册主键生成器
+     * <p>
+     * 主键生成器必须在映射语句创建前注册。
+     * Register the key generator while MyBatis Flex initializes
+     * <p>
+     * The key generator must be registered before mapped statements are created.
+     *
+     * @param hermesIdGenerator 编号生成器
+     * @return MyBatis Flex 自定义配置
+     * @since 2026-01-08
+     */
+    @Bean
+    public MyBatisFlexCustomizer hermesKeyGeneratorCustomizer(HermesIdGenerator hermesIdGenerator) {
+        return config -> KeyGeneratorFactory.register(KEY_GENERATOR, (entity, keyColumn) -> hermesIdGenerator.nextId());
+    }
+}
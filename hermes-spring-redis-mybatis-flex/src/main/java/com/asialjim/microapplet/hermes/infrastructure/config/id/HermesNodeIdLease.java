@@ -0,0 +1,143 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.infrastructure.config.id;
+
+import com.asialjim.microapplet.hermes.id.SnowflakeIdGenerator;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 雪花算法节点编号租约
+ * <p>
+ * 启动时在 Redis 中以 {@code SET NX} 抢占 {@code hermes:node:<n>}，从实例编号的哈希值开始依次尝试全部 1024 个节点编号，
+ * 全部被占用时启动失败，不会与其他实例共用节点编号；租约随心跳续期，过期前未续期的节点编号才会被其他实例获取，实例停止时释放。
+ * Snowflake node id lease
+ * <p>
+ * On startup {@code hermes:node:<n>} is taken in Redis with {@code SET NX}, trying all 1024 node ids starting from the
+ * hash of the instance id; startup fails when all of them are taken, so a node id is never shared with another
+ * instance. The lease is renewed with the heartbeat, a node id only becomes available to other instances after its
+ * lease expires without renewal, and it is released when the instance stops.
+ *
+ * @author Asial Jim
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Slf4j
+public class HermesNodeIdLease implements AutoCloseable {
+    /**
+     * 节点编号数量
+     * Number of node ids
+     */
+    private static final int NODES = 1024;
+
+    /**
+     * 租约时长，为心跳间隔的 4 倍
+     * Lease duration, 4 times the heartbeat interval
+     */
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(2);
+
+    // 持有者一致时续期，无人持有时重新占用，被其他实例占用时返回 0
+    private static final DefaultRedisScript<Long> RENEW = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('pexpire', KEYS[1], ARGV[2])
+            end
+            if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 持有者一致时删除
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String instanceId;
+
+    /**
+     * 租用的节点编号
+     * Leased node id
+     */
+    @Getter
+    private final long nodeId;
+
+    /**
+     * 租用节点编号，全部被占用时抛出异常
+     * Lease a node id, throws when all of them are taken
+     *
+     * @param stringRedisTemplate Redis 模板
+     * @param instanceId          实例编号
+     * @throws IllegalStateException 没有可用的节点编号
+     * @since 2026-01-08
+     */
+    public HermesNodeIdLease(StringRedisTemplate stringRedisTemplate, String instanceId) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.instanceId = instanceId;
+        long start = SnowflakeIdGenerator.nodeIdOf(instanceId);
+        for (int i = 0; i < NODES; i++) {
+            long node = (start + i) % NODES;
+            Boolean leased = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(key(node), instanceId, TTL_MILLIS, TimeUnit.MILLISECONDS);
+            if (Boolean.TRUE.equals(leased)) {
+                this.nodeId = node;
+                log.info("Hermes 实例 {} 租用节点编号 {}", instanceId, node);
+                return;
+            }
+        }
+        throw new IllegalStateException("No Hermes node id available, all " + NODES
+                + " node ids are leased; configure hermes.id.node-id explicitly");
+    }
+
+    /**
+     * 续期租约，租约已被其他实例占用时记录错误
+     * Renew the lease, logs an error when the lease was taken by another instance
+     *
+     * @since 2026-01-08
+     */
+    public void renew() {
+        Long res = this.stringRedisTemplate.execute(RENEW, Collections.singletonList(key(this.nodeId)),
+                this.instanceId, String.valueOf(TTL_MILLIS));
+        if (Long.valueOf(0L).equals(res))
+            log.error("Hermes 实例 {} 的节点编号 {} 租约已被其他实例占用，编号可能重复", this.instanceId, this.nodeId);
+    }
+
+    /**
+     * 释放租约
+     * Release the lease
+     *
+     * @since 2026-01-08
+     */
+    @Override
+    public void close() {
+        this.stringRedisTemplate.execute(RELEASE, Collections.singletonList(key(this.nodeId)), this.instanceId);
+        log.info("Hermes 实例 {} 释放节点编号 {}", this.instanceId, this.nodeId);
+    }
+
+    private static String key(long node) {
+        return "hermes:node:" + node;
+    }
+}
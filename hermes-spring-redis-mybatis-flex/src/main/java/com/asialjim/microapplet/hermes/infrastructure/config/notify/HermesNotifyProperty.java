@@ -0,0 +1,54 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.infrastructure.config.notify;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Hermes 事件通知属性配置类
+ * <p>
+ * 该类用于读取事件通知的配置，序列化后不超过 {@code inline-max-bytes} 的事件直接随通知发送，
+ * 消费者无需再从 Redis 或数据库读取事件内容，只需认领消费记录；超过该大小的事件仍只发送事件编号。
+ * Hermes event notification property configuration class
+ * <p>
+ * This class is used to read the event notification configuration, events whose serialized form does not exceed
+ * {@code inline-max-bytes} are carried in the notification itself, so consumers only claim the consumption record
+ * without reading the event back from Redis or the database; larger events still send only the event ID.
+ *
+ * @author Asial Jim
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "hermes.notify")
+public class HermesNotifyProperty implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2985310436270711528L;
+
+    /**
+     * 随通知发送的事件最大字节数，为0时只发送事件编号
+     * Maximum size in bytes of an event carried in the notification, only the event ID is sent when 0
+     */
+    private int inlineMaxBytes = 4096;
+}
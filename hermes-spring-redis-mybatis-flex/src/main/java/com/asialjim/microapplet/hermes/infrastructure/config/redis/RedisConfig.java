@@ -17,6 +17,7 @@
 package com.asialjim.microapplet.hermes.infrastructure.config.redis;
 
 import com.asialjim.microapplet.hermes.HermesService;
+import com.asialjim.microapplet.hermes.id.HermesIdGenerator;
 import com.asialjim.microapplet.hermes.listener.HermesListener;
 import com.asialjim.microapplet.hermes.listener.HermesProducer;
 import com.asialjim.microapplet.hermes.provider.HermesRepository;
@@ -27,7 +28,6 @@ import org.springframework.core.annotation.Order;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
-import java.util.UUID;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -79,19 +79,21 @@ public class RedisConfig {
      * 
      * @param hermesService Hermes 服务名称组件，用于标识当前服务
      * @param hermesRepository Hermes 仓库，用于事件存储和管理
+     * @param hermesIdGenerator Hermes 编号生成器，用于生成会话与链路编号
      * @return HermesProducer 实例
      * @since 1.0.0
      */
     @Bean
     public HermesProducer redisHermesProducer(
             HermesService hermesService,
-            HermesRepository hermesRepository) {
+            HermesRepository hermesRepository,
+            HermesIdGenerator hermesIdGenerator) {
 
         return new HermesProducer(
                 hermesService,
                 hermesRepository,
-                () -> UUID.randomUUID().toString(),
-                () -> UUID.randomUUID().toString(),
+                hermesIdGenerator::nextId,
+                hermesIdGenerator::nextId,
                 null
         );
     }
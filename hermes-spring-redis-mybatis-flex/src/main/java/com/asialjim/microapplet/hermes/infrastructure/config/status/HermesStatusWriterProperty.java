@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.asialjim.microapplet.hermes.infrastructure.config.status;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Hermes 消费状态写入属性配置类
+ * <p>
+ * 该类用于读取消费状态异步写入的配置，开启后同一消费记录在一个刷新周期内的状态变化在内存中合并，
+ * 由写入线程只把最终状态批量写入数据库；未写入的状态在实例宕机时由处理租约与重试兜底。
+ * Hermes consumption status writer property configuration class
+ * <p>
+ * This class is used to read the configuration of asynchronous consumption status writing, when enabled the status
+ * transitions of a consumption record within one flush period are merged in memory and the writer thread writes only
+ * the final state to the database in batches; states not yet written when an instance dies are recovered by the
+ * processing lease and retries.
+ *
+ * @author Asial Jim
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "hermes.status-writer")
+public class HermesStatusWriterProperty implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6390187742815520631L;
+
+    /**
+     * 是否开启消费状态异步写入
+     * Whether asynchronous consumption status writing is enabled
+     */
+    private boolean enabled = true;
+
+    /**
+     * 刷新周期（毫秒）
+     * Flush period in milliseconds
+     */
+    private long flushIntervalMillis = 200;
+
+    /**
+     * 写入失败后按指数退避重试的最长间隔（毫秒）
+     * Maximum interval in milliseconds of the exponential backoff retrying failed writes
+     */
+    private long maxRetryIntervalMillis = 30000;
+
+    /**
+     * 等待写入的最大消费记录数，超过后状态变化直接同步写入
+     * Maximum number of consumption records waiting to be written, status transitions are written synchronously beyond it
+     */
+    private int maxPending = 65536;
+}
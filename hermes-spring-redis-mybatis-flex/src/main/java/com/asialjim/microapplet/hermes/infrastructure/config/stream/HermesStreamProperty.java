@@ -0,0 +1,92 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.infrastructure.config.stream;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Hermes Redis Stream 传输属性配置类
+ * <p>
+ * 该类用于读取 Redis Stream 传输配置，开启后事件通知通过 XADD 写入每个订阅服务的 Stream，
+ * 同一服务的各实例通过消费者组负载均衡地读取，处理成功后 XACK，长时间未确认的消息由其他实例认领重新投递，
+ * 不再依赖 Redis PUBLISH，实例重连或停顿期间的通知不会丢失。
+ * Hermes Redis Stream transport property configuration class
+ * <p>
+ * This class is used to read the Redis Stream transport configuration, when enabled event notifications are written
+ * to the stream of each subscriber service by XADD, the instances of a service read them load-balanced through a
+ * consumer group, acknowledge them by XACK once handled, and messages left unacknowledged for too long are claimed
+ * and redelivered by other instances, so notifications are no longer lost during reconnects or pauses as with PUBLISH.
+ *
+ * @author Asial Jim
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "hermes.stream")
+public class HermesStreamProperty implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6405129987031862745L;
+
+    /**
+     * 是否使用 Redis Stream 传输，默认使用 Redis 发布订阅
+     * Whether to use the Redis Stream transport, Redis publish/subscribe is used by default
+     */
+    private boolean enabled = false;
+
+    /**
+     * 每个 Stream 保留的大致最大消息数
+     * Approximate maximum number of messages kept in each stream
+     */
+    private long maxLen = 100000;
+
+    /**
+     * 单次读取的最大消息数
+     * Maximum number of messages per read
+     */
+    private int batchSize = 64;
+
+    /**
+     * 单次读取的阻塞时间（毫秒）
+     * Block time of a read in milliseconds
+     */
+    private long pollTimeoutMillis = 2000;
+
+    /**
+     * 消息未确认超过该时间（毫秒）后被其他实例认领
+     * Messages left unacknowledged longer than this many milliseconds are claimed by other instances
+     */
+    private long claimIdleMillis = 60000;
+
+    /**
+     * 单条消息的最大投递次数，超过后确认并交由数据库补偿消费
+     * Maximum deliveries of a message, after which it is acknowledged and left to the database compensation
+     */
+    private int maxDeliveries = 5;
+
+    /**
+     * 空闲时数据库补偿消费的最大间隔（分钟），作为 Stream 传输的兜底
+     * Maximum idle interval in minutes of the database compensation consumption, as a safety net of the stream transport
+     */
+    private long reConsumptionMinutes = 10;
+}
@@ -72,7 +72,8 @@ public class ConsumptionStatusHandler implements TypeHandler<ConsumptionStatus>
      */
     @Override
     public void setParameter(PreparedStatement ps, int i, ConsumptionStatus parameter, JdbcType jdbcType) throws SQLException {
-        ps.setInt(i, parameter.getId());
+        // 状态列为 varchar，按字符串绑定，避免逐行类型转换导致索引失效
+        ps.setString(i, String.valueOf(parameter.getId()));
     }
 
     /**
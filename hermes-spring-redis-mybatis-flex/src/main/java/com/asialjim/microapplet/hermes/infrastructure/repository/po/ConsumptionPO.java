@@ -17,13 +17,13 @@
 package com.asialjim.microapplet.hermes.infrastructure.repository.po;
 
 import com.asialjim.microapplet.hermes.ConsumptionStatus;
+import com.asialjim.microapplet.hermes.infrastructure.config.id.HermesIdConfig;
 import com.asialjim.microapplet.hermes.infrastructure.config.table.HermesTable;
 import com.asialjim.microapplet.hermes.infrastructure.repository.handler.ConsumptionStatusHandler;
 import com.mybatisflex.annotation.Column;
 import com.mybatisflex.annotation.Id;
 import com.mybatisflex.annotation.KeyType;
 import com.mybatisflex.annotation.Table;
-import com.mybatisflex.core.keygen.KeyGenerators;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
@@ -52,10 +52,10 @@ public class ConsumptionPO implements Serializable {
     private static final long serialVersionUID = 1378823552872408116L;
 
     /**
-     * 主键ID，自动生成UUID
-     * Primary key ID, automatically generated UUID
+     * 主键ID，按时间递增自动生成
+     * Primary key ID, automatically generated in time order
      */
-    @Id(keyType = KeyType.Generator,value = KeyGenerators.uuid)
+    @Id(keyType = KeyType.Generator,value = HermesIdConfig.KEY_GENERATOR)
     private String id;
     
     /**
@@ -100,6 +100,18 @@ public class ConsumptionPO implements Serializable {
      * Next execution time
      */
     private LocalDateTime nextTime;
+
+    /**
+     * 租约持有者，处理中记录所属的服务实例编号
+     * Lease owner, ID of the service instance processing the record
+     */
+    private String leaseOwner;
+
+    /**
+     * 租约到期时间，处理中记录超过该时间未续约时重新入队
+     * Lease expire time, a processing record not renewed past this time is requeued
+     */
+    private LocalDateTime leaseExpireTime;
     
     /**
      * 创建时间，插入时自动生成
@@ -18,6 +18,7 @@ package com.asialjim.microapplet.hermes.infrastructure.repository.po;
 
 import com.asialjim.microapplet.hermes.HermesStatus;
 import com.asialjim.microapplet.hermes.event.Hermes;
+import com.asialjim.microapplet.hermes.infrastructure.config.id.HermesIdConfig;
 import com.asialjim.microapplet.hermes.infrastructure.config.table.HermesTable;
 import com.asialjim.microapplet.hermes.infrastructure.repository.handler.HermesStatusHandler;
 import com.asialjim.util.jackson.Json;
@@ -25,7 +26,6 @@ import com.mybatisflex.annotation.Column;
 import com.mybatisflex.annotation.Id;
 import com.mybatisflex.annotation.KeyType;
 import com.mybatisflex.annotation.Table;
-import com.mybatisflex.core.keygen.KeyGenerators;
 import lombok.Data;
 import lombok.experimental.Accessors;
 import org.apache.commons.lang3.StringUtils;
@@ -58,10 +58,10 @@ public class EventPO implements Serializable {
     private static final long serialVersionUID = -8837734211266680510L;
     
     /**
-     * 事件编号，自动生成UUID
-     * Event ID, automatically generated UUID
+     * 事件编号，按时间递增自动生成
+     * Event ID, automatically generated in time order
      */
-    @Id(keyType = KeyType.Generator, value = KeyGenerators.uuid)
+    @Id(keyType = KeyType.Generator, value = HermesIdConfig.KEY_GENERATOR)
     private String id;
 
     /**
@@ -16,12 +16,12 @@
 
 package com.asialjim.microapplet.hermes.infrastructure.repository.po;
 
+import com.asialjim.microapplet.hermes.infrastructure.config.id.HermesIdConfig;
 import com.asialjim.microapplet.hermes.infrastructure.config.table.HermesTable;
 import com.mybatisflex.annotation.Column;
 import com.mybatisflex.annotation.Id;
 import com.mybatisflex.annotation.KeyType;
 import com.mybatisflex.annotation.Table;
-import com.mybatisflex.core.keygen.KeyGenerators;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
@@ -49,10 +49,10 @@ public class SubscriberPO implements Serializable {
     private static final long serialVersionUID = 1565225968728408506L;
 
     /**
-     * 主键ID，自动生成UUID
-     * Primary key ID, automatically generated UUID
+     * 主键ID，按时间递增自动生成
+     * Primary key ID, automatically generated in time order
      */
-    @Id(keyType = KeyType.Generator, value = KeyGenerators.uuid)
+    @Id(keyType = KeyType.Generator, value = HermesIdConfig.KEY_GENERATOR)
     private String id;
     
     /**
@@ -19,6 +19,10 @@ package com.asialjim.microapplet.hermes.infrastructure.repository.service;
 import com.asialjim.microapplet.hermes.infrastructure.repository.po.ConsumptionDetailPO;
 import com.mybatisflex.core.service.IService;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 消费详情服务接口
  * <p>
@@ -33,4 +37,33 @@ import com.mybatisflex.core.service.IService;
  */
 public interface ConsumptionDetailMapperService
     extends IService<ConsumptionDetailPO> {
+
+    /**
+     * 查询指定服务中已成功处理一批事件的监听器
+     * <p>
+     * 该方法使用一条查询返回每个事件已成功处理的监听器名称。
+     * Query the listeners of the specified service that already processed a batch of events successfully
+     * <p>
+     * This method returns the names of the listeners that processed each event successfully with one query.
+     *
+     * @param eventIds 事件ID集合
+     * @param serviceName 服务名称
+     * @return 事件ID -> 已成功的监听器名称，没有成功监听器的事件不包含在内
+     * @since 2026-01-08
+     */
+    Map<String, Set<String>> succeededListeners(Collection<String> eventIds, String serviceName);
+
+    /**
+     * 批量保存监听器的处理结果
+     * <p>
+     * 该方法按 (事件ID, 订阅者, 监听器) 插入或更新处理结果，新记录使用多行插入语句保存。
+     * Batch save the outcomes of listeners
+     * <p>
+     * This method inserts or updates the outcomes by (event ID, subscriber, listener), new records are saved with
+     * multi-row insert statements.
+     *
+     * @param details 监听器处理结果
+     * @since 2026-01-08
+     */
+    void saveOutcomes(Collection<ConsumptionDetailPO> details);
 }
\ No newline at end of file
@@ -16,10 +16,13 @@
 
 package com.asialjim.microapplet.hermes.infrastructure.repository.service;
 
-import com.asialjim.microapplet.hermes.infrastructure.repository.po.ConsumptionCount;
+import com.asialjim.microapplet.hermes.ConsumptionStatus;
 import com.asialjim.microapplet.hermes.infrastructure.repository.po.ConsumptionPO;
 import com.mybatisflex.core.service.IService;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -40,68 +43,167 @@ public interface ConsumptionMapperService
     extends IService<ConsumptionPO> {
 
     /**
-     * 从队列中获取一个事件ID供指定服务消费
+     * 从队列中获取一批事件ID供指定服务消费
      * <p>
-     * 该方法从队列中获取一个事件ID，供指定的服务进行消费处理。
-     * Get an event ID from the queue for consumption by the specified service
+     * 该方法按创建时间顺序锁定最多指定数量的待处理记录，跳过已被其他实例锁定的记录，返回对应的事件ID。
+     * Get a batch of event IDs from the queue for consumption by the specified service
      * <p>
-     * This method retrieves an event ID from the queue for consumption processing by the specified service.
+     * This method locks up to the given number of pending records in creation order, skipping records locked by
+     * other instances, and returns their event IDs.
      * 
      * @param serviceName 服务名称
-     * @return 事件ID，如果没有可用事件则返回null
+     * @param limit 最大数量
+     * @return 事件ID列表，如果没有可用事件则返回空列表
      * @version 1.0.0
-     * @since 1.0.0
+     * @since 2026-01-08
+     */
+    List<String> popBatch(String serviceName, int limit);
+
+    /**
+     * 获取一批到期的重试事件ID供指定服务消费
+     * <p>
+     * 该方法按下次执行时间顺序锁定最多指定数量已到期的重试记录，跳过已被其他实例锁定的记录，返回对应的事件ID。
+     * Get a batch of due retry event IDs for consumption by the specified service
+     * <p>
+     * This method locks up to the given number of due retrying records in next execution time order, skipping
+     * records locked by other instances, and returns their event IDs.
+     *
+     * @param serviceName 服务名称
+     * @param limit 最大数量
+     * @return 事件ID列表，如果没有到期的重试事件则返回空列表
+     * @since 2026-01-08
      */
-    String pop(String serviceName);
+    List<String> popRetryBatch(String serviceName, int limit);
 
     /**
-     * 标记事件已被获取
+     * 标记一批事件已被获取
      * <p>
-     * 该方法标记指定事件已被指定服务获取，防止重复消费。
-     * Mark event as popped
+     * 该方法使用一条更新语句标记指定事件已被指定服务获取，防止重复消费。
+     * Mark a batch of events as popped
      * <p>
-     * This method marks the specified event as having been retrieved by the specified service, preventing duplicate consumption.
+     * This method marks the specified events as having been retrieved by the specified service with one update statement, preventing duplicate consumption.
      * 
-     * @param eventId 事件ID
+     * @param eventIds 事件ID集合
      * @param serviceName 服务名称
      * @version 1.0.0
-     * @since 1.0.0
+     * @since 2026-01-08
+     */
+    void poppedBatch(Collection<String> eventIds, String serviceName);
+
+    /**
+     * 批量标记事件正在处理中
+     * <p>
+     * 该方法使用一条更新语句将仍为待处理或处理中的记录标记为处理中，已被标记为重试、死信或成功的记录保持不变。
+     * Batch mark events as being processed
+     * <p>
+     * This method marks the records still pending or processing as processing with one update statement, records
+     * already marked as retrying, dead or succeeded are left unchanged.
+     *
+     * @param eventIds    事件ID集合
+     * @param serviceName 服务名称
+     * @since 2026-01-08
      */
-    void popped(String eventId, String serviceName);
+    void processingBatch(Collection<String> eventIds, String serviceName);
 
     /**
-     * 检查事件ID和服务名称是否可用
+     * 认领指定服务对事件的消费记录
      * <p>
-     * 该方法检查指定事件ID和服务名称的组合是否可用，用于判断事件是否可以被消费。
-     * Check if event ID and service name are available
+     * 该方法通过一条条件更新语句将待处理的消费记录更新为处理中，影响行数为1的实例认领成功，
+     * 同一服务的多个实例同时收到通知时只有一个能认领成功。
+     * Claim the consumption record of the event for the specified service
      * <p>
-     * This method checks if the combination of the specified event ID and service name is available, 
-     * used to determine if an event can be consumed.
+     * This method moves the pending consumption record to processing with one conditional update statement,
+     * the instance whose update affects the row wins, so only one of the instances of a service receiving
+     * the same notification succeeds.
      * 
      * @param id 事件ID
      * @param serviceName 服务名称
-     * @return 如果可用则返回true，否则返回false
+     * @return 如果认领成功则返回true，否则返回false
      * @version 1.0.0
-     * @since 1.0.0
+     * @since 2026-01-08
+     */
+    boolean claim(String id, String serviceName);
+
+    /**
+     * 续约指定实例仍在处理的事件的处理租约
+     * <p>
+     * 该方法只延长指定事件的处理中记录的租约到期时间，由实例心跳调用；实例已不再处理的记录不续约，租约过期后重新入队。
+     * Renew the processing leases of the events the specified instance is still working on
+     * <p>
+     * This method only extends the lease expire time of the processing records of the given events, called by the
+     * instance heartbeat; records the instance no longer works on are not renewed and are requeued once their lease
+     * expires.
+     *
+     * @param instanceId 服务实例编号
+     * @param eventIds   仍在处理的事件ID
+     * @return 续约的记录数
+     * @since 2026-01-08
+     */
+    int renewLeases(String instanceId, Collection<String> eventIds);
+
+    /**
+     * 将已下线实例持有的处理中记录重新入队
+     * <p>
+     * 该方法将指定实例持有的处理中记录更新为待处理，由补偿消费重新处理。
+     * Requeue the processing records held by instances gone offline
+     * <p>
+     * This method moves the processing records held by the specified instances back to pending, to be handled again
+     * by compensation consumption.
+     *
+     * @param instanceIds 已下线的服务实例编号
+     * @return 重新入队的记录数
+     * @since 2026-01-08
      */
-    boolean eventIdAndServiceNameAvailable(String id, String serviceName);
+    int requeueLeasesOf(Collection<String> instanceIds);
+
+    /**
+     * 将租约已过期的处理中记录分批重新入队
+     * <p>
+     * 该方法每次查询当前服务最多指定数量租约已过期的处理中记录并更新为待处理，直到没有过期记录为止。
+     * Requeue the processing records whose lease expired, batch by batch
+     * <p>
+     * This method queries up to the given number of processing records of the current service whose lease expired at
+     * a time and moves them back to pending, until there are no expired records.
+     *
+     * @param limit 每批最大数量
+     * @return 重新入队的记录数
+     * @since 2026-01-08
+     */
+    int requeueExpiredLeases(int limit);
+
+    /**
+     * 释放指定实例持有的处理中记录
+     * <p>
+     * 该方法在实例停止时将其持有的处理中记录更新为待处理，并返回这些记录的事件ID，用于通知其他实例立即接手。
+     * Release the processing records held by the specified instance
+     * <p>
+     * This method moves the processing records held by the instance back to pending when it stops, and returns their
+     * event IDs so other instances can be notified to take over at once.
+     *
+     * @param instanceId 停止中的服务实例编号
+     * @return 已释放记录的事件ID
+     * @since 2026-01-08
+     */
+    List<String> releaseLeases(String instanceId);
 
     /**
      * 记录消费日志
      * <p>
-     * 该方法记录事件消费的日志信息，包括事件ID、服务名称、状态码和错误信息。
+     * 该方法记录事件消费的日志信息，包括事件ID、服务名称、状态码和错误信息，失败时按退避策略安排重试。
      * Log consumption information
      * <p>
-     * This method records log information for event consumption, including event ID, service name, status code, and error information.
+     * This method records log information for event consumption, including event ID, service name, status code, and error information,
+     * scheduling a retry by the backoff policy on failure.
      * 
      * @param id 事件ID
      * @param serviceName 服务名称
      * @param code 状态码
      * @param err 错误信息
+     * @return 消费记录进入的状态，记录未被更新时返回null
      * @version 1.0.0
      * @since 1.0.0
      */
-    void log(String id, String serviceName, String code, String err);
+    ConsumptionStatus log(String id, String serviceName, String code, String err);
 
     /**
      * 发送事件给指定的服务列表
@@ -118,6 +220,19 @@ public interface ConsumptionMapperService
      */
     void send(String id, Set<String> sendTo);
 
+    /**
+     * 批量发送事件给各自的服务列表
+     * <p>
+     * 该方法为多个事件创建消费记录，使用多行插入语句保存。
+     * Batch send events to their service lists
+     * <p>
+     * This method creates consumption records for multiple events and saves them with multi-row insert statements.
+     *
+     * @param sendTo 事件ID -> 服务名称集合
+     * @since 2026-01-08
+     */
+    void sendBatch(Map<String, Set<String>> sendTo);
+
     /**
      * 标记事件正在处理中
      * <p>
@@ -136,32 +251,67 @@ public interface ConsumptionMapperService
     /**
      * 标记事件处理失败
      * <p>
-     * 该方法标记指定事件在指定应用中处理失败，并记录错误信息。
+     * 该方法记录错误信息，并将消费记录更新为重试中、按指数退避计算下次执行时间；超过最大重试次数时更新为死信。
      * Mark event processing as failed
      * <p>
-     * This method marks the specified event as having failed processing in the specified application, and records the error information.
+     * This method records the error information and moves the consumption record to retrying with the next execution time
+     * computed by exponential backoff; the record becomes dead once the maximum number of retries is exceeded.
      * 
      * @param eventId 事件ID
      * @param application 应用名称
      * @param err 错误信息
+     * @return 消费记录进入的状态（重试中或死信），记录未被更新时返回null
      * @version 1.0.0
      * @since 1.0.0
      */
-    void errorEvent(String eventId, String application, String err);
+    ConsumptionStatus errorEvent(String eventId, String application, String err);
 
     /**
      * 标记事件处理成功
      * <p>
-     * 该方法标记指定事件在指定应用中处理成功。
+     * 该方法标记指定事件在指定应用中处理成功，已成功、已安排重试或已死信的记录保持不变。
      * Mark event processing as successful
      * <p>
-     * This method marks the specified event as having been successfully processed in the specified application.
+     * This method marks the specified event as having been successfully processed in the specified application,
+     * records already succeeded, scheduled for retry or dead are left unchanged.
      * 
      * @param eventId 事件ID
      * @param application 应用名称
+     * @return 记录是否由本次调用更新为成功
      * @since 1.0.0
      */
-    ConsumptionCount succeedEvent(String eventId, String application);
+    boolean succeedEvent(String eventId, String application);
 
+    /**
+     * 批量标记事件处理成功
+     * <p>
+     * 该方法锁定指定服务一批尚未成功、未安排重试且未死信的记录并更新为成功，返回本次更新的事件ID。
+     * Batch mark event processing as successful
+     * <p>
+     * This method locks the records of the specified service that have not succeeded, are not scheduled for retry and
+     * are not dead, marks them as successful and returns the event IDs updated by this call.
+     *
+     * @param eventIds 事件ID集合
+     * @param serviceName 服务名称
+     * @param description 结果描述
+     * @return 由本次调用更新为成功的事件ID
+     * @since 2026-01-08
+     */
+    List<String> succeededBatch(Collection<String> eventIds, String serviceName, String description);
 
-}
\ No newline at end of file
+    /**
+     * 批量将事件转为死信
+     * <p>
+     * 该方法将指定服务一批待处理或处理中的记录直接更新为死信，用于事件已丢失、无法再分发的记录。
+     * Batch move events to dead letter
+     * <p>
+     * This method marks the pending or processing records of the specified service as dead directly, used for records
+     * whose event is lost and can no longer be dispatched.
+     *
+     * @param eventIds 事件ID集合
+     * @param serviceName 服务名称
+     * @param description 结果描述
+     * @since 2026-01-08
+     */
+    void deadBatch(Collection<String> eventIds, String serviceName, String description);
+}
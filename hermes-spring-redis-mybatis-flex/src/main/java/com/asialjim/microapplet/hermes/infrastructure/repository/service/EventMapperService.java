@@ -16,10 +16,12 @@
 
 package com.asialjim.microapplet.hermes.infrastructure.repository.service;
 
-import com.asialjim.microapplet.hermes.infrastructure.repository.po.ConsumptionCount;
 import com.asialjim.microapplet.hermes.infrastructure.repository.po.EventPO;
 import com.mybatisflex.core.service.IService;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 事件服务接口
  * <p>
@@ -64,6 +66,20 @@ public interface EventMapperService extends IService<EventPO> {
      */
     void saveCacheable(EventPO po);
 
+    /**
+     * 批量保存可缓存的事件
+     * <p>
+     * 该方法为事件预先分配编号，使用多行插入语句保存事件，并通过 Redis pipeline 一次性写入缓存。
+     * Batch save cacheable events
+     * <p>
+     * This method pre-assigns event IDs, saves events with multi-row insert statements,
+     * and writes the cache at once through a Redis pipeline.
+     *
+     * @param pos EventPO 对象列表
+     * @since 2026-01-08
+     */
+    void saveBatchCacheable(List<EventPO> pos);
+
     /**
      * 标记事件正在处理中
      * <p>
@@ -78,5 +94,46 @@ public interface EventMapperService extends IService<EventPO> {
      */
     void processingEvent(String eventId, String application);
 
-    void succeedEvent(String eventId, ConsumptionCount consumptionCount);
+    /**
+     * 批量标记事件正在处理中
+     * <p>
+     * 该方法使用一条更新语句标记一批事件正在处理中。
+     * Batch mark events as being processed
+     * <p>
+     * This method marks a batch of events as being processed with one update statement.
+     *
+     * @param eventIds 事件ID集合
+     * @since 2026-01-08
+     */
+    void processingEvents(Collection<String> eventIds);
+
+    /**
+     * 累加事件的成功服务数
+     * <p>
+     * 该方法使用一条更新语句原子地累加一批事件的成功服务数，成功服务数达到订阅服务数的事件在同一语句中标记为已完成。
+     * Increment the succeeded service number of events
+     * <p>
+     * This method atomically increments the succeeded service number of a batch of events with one update statement,
+     * events whose succeeded service number reaches the subscribed service number are marked as completed in the same statement.
+     *
+     * @param eventIds 事件ID集合
+     * @param delta 增量
+     * @since 2026-01-08
+     */
+    void increaseSucceeded(Collection<String> eventIds, int delta);
+
+    /**
+     * 累加事件的失败服务数
+     * <p>
+     * 该方法使用一条更新语句原子地累加一批事件的失败服务数，并在同一语句中标记为部分失败。
+     * Increment the failed service number of events
+     * <p>
+     * This method atomically increments the failed service number of a batch of events with one update statement,
+     * marking them as partially failed in the same statement.
+     *
+     * @param eventIds 事件ID集合
+     * @param delta 增量
+     * @since 2026-01-08
+     */
+    void increaseFailed(Collection<String> eventIds, int delta);
 }
@@ -20,6 +20,7 @@ import com.asialjim.microapplet.hermes.infrastructure.repository.po.SubscriberPO
 import com.mybatisflex.core.service.IService;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -37,6 +38,12 @@ import java.util.Set;
  * @since 1.0.0
  */
 public interface SubscriberMapperService extends IService<SubscriberPO> {
+    /**
+     * 订阅关系变更通知频道，消息内容为变更的事件类型，{@code *} 表示全部
+     * Channel notifying subscription changes, the message is the changed event type, {@code *} means all
+     */
+    String ROUTES_CHANNEL = "hermes:subscriber:changed";
+
     /**
      * 根据事件类型获取应用列表
      * <p>
@@ -51,6 +58,32 @@ public interface SubscriberMapperService extends IService<SubscriberPO> {
      */
     Set<String> applicationsByEventType(String type);
 
+    /**
+     * 从数据库加载全部订阅关系到本地路由表
+     * <p>
+     * 该方法查询全部事件类型与订阅服务的对应关系，替换本地路由表；并发调用共享同一次加载的结果。
+     * Load all subscriptions from the database into the local routing table
+     * <p>
+     * This method queries all event type to subscriber service mappings and replaces the local routing table;
+     * concurrent calls share the result of the same load.
+     * 
+     * @return 事件类型 -> 订阅服务名称集合
+     * @since 1.0.0
+     */
+    Map<String, Set<String>> loadRoutes();
+
+    /**
+     * 使本地路由表失效
+     * <p>
+     * 收到订阅关系变更通知时调用，下次查询时重新加载。
+     * Invalidate the local routing table
+     * <p>
+     * Called when a subscription change notification is received, the table is reloaded on the next lookup.
+     * 
+     * @since 1.0.0
+     */
+    void invalidateRoutes();
+
     /**
      * 注册事件类型和服务名称
      * <p>
@@ -16,12 +16,21 @@
 
 package com.asialjim.microapplet.hermes.infrastructure.repository.service.impl;
 
+import com.asialjim.microapplet.hermes.ConsumptionStatus;
+import com.asialjim.microapplet.hermes.infrastructure.config.id.HermesIdConfig;
 import com.asialjim.microapplet.hermes.infrastructure.repository.mapper.ConsumptionDetailBaseMapper;
 import com.asialjim.microapplet.hermes.infrastructure.repository.po.ConsumptionDetailPO;
 import com.asialjim.microapplet.hermes.infrastructure.repository.service.ConsumptionDetailMapperService;
+import com.mybatisflex.core.keygen.IKeyGenerator;
+import com.mybatisflex.core.keygen.KeyGeneratorFactory;
 import com.mybatisflex.spring.service.impl.ServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.*;
+
 /**
  * 消费详情服务实现类
  * <p>
@@ -36,8 +45,105 @@ import org.springframework.stereotype.Repository;
  * @version 1.0.0
  * @since 1.0.0
  */
+@Slf4j
 @Repository
 public class ConsumptionDetailMapperServiceImpl
     extends ServiceImpl<ConsumptionDetailBaseMapper, ConsumptionDetailPO>
     implements ConsumptionDetailMapperService {
+
+    /**
+     * 查询指定服务中已成功处理一批事件的监听器
+     * <p>
+     * 该方法使用一条查询返回每个事件已成功处理的监听器名称。
+     * Query the listeners of the specified service that already processed a batch of events successfully
+     * <p>
+     * This method returns the names of the listeners that processed each event successfully with one query.
+     *
+     * @param eventIds    事件ID集合
+     * @param serviceName 服务名称
+     * @return 事件ID -> 已成功的监听器名称，没有成功监听器的事件不包含在内
+     * @since 2026-01-08
+     */
+    @Override
+    public Map<String, Set<String>> succeededListeners(Collection<String> eventIds, String serviceName) {
+        if (eventIds.isEmpty())
+            return Collections.emptyMap();
+        List<ConsumptionDetailPO> list = queryChain()
+                .select(ConsumptionDetailPO::getEventId, ConsumptionDetailPO::getListener)
+                .where(ConsumptionDetailPO::getSubscriber).eq(serviceName)
+                .where(ConsumptionDetailPO::getEventId).in(eventIds)
+                .where(ConsumptionDetailPO::getStatus).eq(String.valueOf(ConsumptionStatus.SUCCEEDED.getId()))
+                .list();
+        Map<String, Set<String>> res = new HashMap<>();
+        for (ConsumptionDetailPO po : list) {
+            res.computeIfAbsent(po.getEventId(), key -> new HashSet<>()).add(po.getListener());
+        }
+        return res;
+    }
+
+    /**
+     * 批量保存监听器的处理结果
+     * <p>
+     * 该方法先用一条查询找出已存在的记录逐条更新（只发生在重新投递时），其余记录预先分配编号后使用多行插入语句保存；
+     * 并发插入同一记录导致唯一键冲突时，逐条插入或更新。
+     * Batch save the outcomes of listeners
+     * <p>
+     * This method finds the existing records with one query and updates them one by one (only happens on redelivery),
+     * the rest are assigned IDs up front and saved with multi-row insert statements;
+     * on a unique key conflict caused by a concurrent insert, records are inserted or updated one by one.
+     *
+     * @param details 监听器处理结果
+     * @since 2026-01-08
+     */
+    @Override
+    public void saveOutcomes(Collection<ConsumptionDetailPO> details) {
+        if (details.isEmpty())
+            return;
+
+        Set<String> eventIds = new HashSet<>();
+        for (ConsumptionDetailPO po : details) {
+            eventIds.add(po.getEventId());
+        }
+        Map<List<String>, String> existing = new HashMap<>();
+        for (ConsumptionDetailPO po : queryChain()
+                .select(ConsumptionDetailPO::getId, ConsumptionDetailPO::getEventId,
+                        ConsumptionDetailPO::getSubscriber, ConsumptionDetailPO::getListener)
+                .where(ConsumptionDetailPO::getEventId).in(eventIds)
+                .list()) {
+            existing.put(List.of(po.getEventId(), po.getSubscriber(), po.getListener()), po.getId());
+        }
+
+        IKeyGenerator keyGenerator = KeyGeneratorFactory.getKeyGenerator(HermesIdConfig.KEY_GENERATOR);
+        LocalDateTime now = LocalDateTime.now();
+        List<ConsumptionDetailPO> inserts = new ArrayList<>();
+        for (ConsumptionDetailPO po : details) {
+            String id = existing.get(List.of(po.getEventId(), po.getSubscriber(), po.getListener()));
+            if (Objects.nonNull(id)) {
+                updateById(po.setId(id));
+                continue;
+            }
+            po.setUpdateTime(now);
+            inserts.add(po.setId(String.valueOf(keyGenerator.generate(po, "id"))));
+        }
+        if (inserts.isEmpty())
+            return;
+
+        try {
+            getMapper().insertBatch(inserts, 100);
+        } catch (DuplicateKeyException e) {
+            log.warn("Batch insert of {} consumption details conflicted, fallback to single upsert: {}", inserts.size(), e.getMessage());
+            for (ConsumptionDetailPO po : inserts) {
+                ConsumptionDetailPO current = queryChain()
+                        .select(ConsumptionDetailPO::getId)
+                        .where(ConsumptionDetailPO::getEventId).eq(po.getEventId())
+                        .where(ConsumptionDetailPO::getSubscriber).eq(po.getSubscriber())
+                        .where(ConsumptionDetailPO::getListener).eq(po.getListener())
+                        .one();
+                if (Objects.isNull(current))
+                    save(po);
+                else
+                    updateById(po.setId(current.getId()));
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -17,20 +17,34 @@
 package com.asialjim.microapplet.hermes.infrastructure.repository.service.impl;
 
 import com.asialjim.microapplet.hermes.ConsumptionStatus;
+import com.asialjim.microapplet.hermes.HermesService;
+import com.asialjim.microapplet.hermes.infrastructure.config.consume.HermesConsumeProperty;
+import com.asialjim.microapplet.hermes.infrastructure.config.id.HermesIdConfig;
 import com.asialjim.microapplet.hermes.infrastructure.repository.mapper.ConsumptionBaseMapper;
-import com.asialjim.microapplet.hermes.infrastructure.repository.po.ConsumptionCount;
 import com.asialjim.microapplet.hermes.infrastructure.repository.po.ConsumptionPO;
 import com.asialjim.microapplet.hermes.infrastructure.repository.service.ConsumptionMapperService;
+import com.mybatisflex.core.keygen.IKeyGenerator;
+import com.mybatisflex.core.keygen.KeyGeneratorFactory;
+import com.mybatisflex.core.query.CPI;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.update.UpdateChain;
 import com.mybatisflex.spring.service.impl.ServiceImpl;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -56,100 +70,349 @@ public class ConsumptionMapperServiceImpl
         implements ConsumptionMapperService {
 
     /**
-     * Redis 字符串模板，用于 Redis 操作
-     * Redis string template for Redis operations
+     * 不再被更新为成功的状态：已成功、重试中与死信
+     */
+    private static final Object[] SETTLED = values(
+            ConsumptionStatus.SUCCEEDED, ConsumptionStatus.RETRYING, ConsumptionStatus.DEAD);
+
+    /**
+     * 本次投递尚未得出结果、可被标记为处理中或失败的状态：待处理与处理中
+     */
+    private static final Object[] UNSETTLED = values(ConsumptionStatus.PENDING, ConsumptionStatus.PROCESSING);
+
+    /**
+     * 可被补偿消费获取的状态：待处理、处理中（租约已过期重新入队前）与到期的重试
+     */
+    private static final Object[] POPPABLE = values(
+            ConsumptionStatus.PENDING, ConsumptionStatus.PROCESSING, ConsumptionStatus.RETRYING);
+
+    /**
+     * 本次投递可被补偿消费获取的初始状态：待处理
+     */
+    private static final Object[] QUEUED = values(ConsumptionStatus.PENDING);
+
+    /**
+     * 消费配置，提供重试退避策略
      */
     @Resource
-    private StringRedisTemplate stringRedisTemplate;
+    private HermesConsumeProperty consumeProperty;
 
     /**
-     * 从队列中获取一个事件ID供指定服务消费
+     * 当前服务实例，作为处理租约的持有者
+     */
+    @Resource
+    private HermesService hermesService;
+
+    /**
+     * 从队列中获取一批事件ID供指定服务消费
      * <p>
-     * 该方法从数据库中查询并返回一个指定服务可用的事件ID，使用乐观锁防止并发问题。
-     * Get an event ID from the queue for consumption by the specified service
+     * 该方法按创建时间顺序使用 {@code FOR UPDATE SKIP LOCKED} 锁定最多指定数量的待处理记录，
+     * 多个实例并发补偿消费时各自跳过对方锁定的记录，不会因锁冲突失败。
+     * Get a batch of event IDs from the queue for consumption by the specified service
      * <p>
-     * This method queries and returns an available event ID for the specified service from the database,
-     * using optimistic locking to prevent concurrency issues.
+     * This method locks up to the given number of pending records in creation order with {@code FOR UPDATE SKIP LOCKED},
+     * instances compensating concurrently skip each other's locked records instead of failing on lock conflicts.
      *
      * @param serviceName 服务名称
-     * @return 事件ID，如果没有可用事件则返回null
-     * @since 1.0.0
+     * @param limit       最大数量
+     * @return 事件ID列表，如果没有可用事件则返回空列表
+     * @since 2026-01-08
      */
     @Override
-    public String pop(String serviceName) {
-        //noinspection unchecked
-        return queryChain()
-                .forUpdateNoWait()
+    public List<String> popBatch(String serviceName, int limit) {
+        QueryWrapper wrapper = query()
                 .select(ConsumptionPO::getEventId)
                 .where(ConsumptionPO::getSubscriber).eq(serviceName)
-                .where(ConsumptionPO::getStatus).le(ConsumptionStatus.PENDING.getId())
-                .oneAs(String.class);
+                .where(ConsumptionPO::getStatus).in(QUEUED)
+                .orderBy(ConsumptionPO::getCreateTime, true)
+                .limit(limit);
+        CPI.setEndFragments(wrapper, List.of("FOR UPDATE SKIP LOCKED"));
+        return listAs(wrapper, String.class);
     }
 
     /**
-     * 标记事件已被获取
+     * 获取一批到期的重试事件ID供指定服务消费
      * <p>
-     * 该方法将指定事件标记为已被指定服务获取，防止重复消费。
-     * Mark event as popped
+     * 该方法沿 (subscriber, status, next_time) 索引按下次执行时间顺序使用 {@code FOR UPDATE SKIP LOCKED}
+     * 锁定最多指定数量已到期的重试记录。
+     * Get a batch of due retry event IDs for consumption by the specified service
      * <p>
-     * This method marks the specified event as having been retrieved by the specified service,
-     * preventing duplicate consumption.
+     * This method walks the (subscriber, status, next_time) index and locks up to the given number of due retrying
+     * records in next execution time order with {@code FOR UPDATE SKIP LOCKED}.
      *
-     * @param eventId     事件ID
      * @param serviceName 服务名称
-     * @since 1.0.0
+     * @param limit       最大数量
+     * @return 事件ID列表，如果没有到期的重试事件则返回空列表
+     * @since 2026-01-08
      */
     @Override
-    public void popped(String eventId, String serviceName) {
+    public List<String> popRetryBatch(String serviceName, int limit) {
+        QueryWrapper wrapper = query()
+                .select(ConsumptionPO::getEventId)
+                .where(ConsumptionPO::getSubscriber).eq(serviceName)
+                .where(ConsumptionPO::getStatus).eq(value(ConsumptionStatus.RETRYING))
+                .where(ConsumptionPO::getNextTime).le(LocalDateTime.now())
+                .orderBy(ConsumptionPO::getNextTime, true)
+                .limit(limit);
+        CPI.setEndFragments(wrapper, List.of("FOR UPDATE SKIP LOCKED"));
+        return listAs(wrapper, String.class);
+    }
+
+    /**
+     * 标记一批事件已被获取
+     * <p>
+     * 该方法使用一条更新语句将指定事件标记为已被指定服务获取，并由当前实例持有处理租约，防止重复消费；
+     * 已成功或已死信的记录保持不变。
+     * Mark a batch of events as popped
+     * <p>
+     * This method marks the specified events as having been retrieved by the specified service with one update statement,
+     * with the processing lease held by the current instance, preventing duplicate consumption;
+     * records already succeeded or dead are left unchanged.
+     *
+     * @param eventIds    事件ID集合
+     * @param serviceName 服务名称
+     * @since 2026-01-08
+     */
+    @Override
+    public void poppedBatch(Collection<String> eventIds, String serviceName) {
+        if (eventIds.isEmpty())
+            return;
         boolean update = updateChain()
                 .set(ConsumptionPO::getStatus, ConsumptionStatus.PROCESSING)
+                .set(ConsumptionPO::getLeaseOwner, this.hermesService.instanceId())
+                .set(ConsumptionPO::getLeaseExpireTime, leaseExpireTime())
                 .where(ConsumptionPO::getSubscriber).eq(serviceName)
-                .where(ConsumptionPO::getEventId).eq(eventId)
+                .where(ConsumptionPO::getEventId).in(eventIds)
+                .where(ConsumptionPO::getStatus).in(POPPABLE)
                 .update();
         if (log.isDebugEnabled())
-            log.info("Hermes: {} for Service: {}  had updated: {}", eventId, serviceName, update);
+            log.debug("Hermes: {} for Service: {}  had updated: {}", eventIds, serviceName, update);
     }
 
     /**
-     * 检查事件ID和服务名称是否可用
+     * 批量标记事件正在处理中
      * <p>
-     * 该方法检查指定事件ID和服务名称的组合是否可用，用于判断事件是否可以被消费。
-     * 同时使用Redis实现分布式锁，防止并发问题。
-     * Check if event ID and service name are available
+     * 该方法使用一条更新语句将仍为待处理或处理中的记录标记为处理中并续约，
+     * 同一次投递中已被其他监听器标记为重试或死信的记录不会被重置。
+     * Batch mark events as being processed
      * <p>
-     * This method checks if the combination of the specified event ID and service name is available,
-     * used to determine if an event can be consumed. It also uses Redis to implement distributed locking
-     * to prevent concurrency issues.
+     * This method marks the records still pending or processing as processing and renews their lease with one update
+     * statement, records already marked as retrying or dead by another listener of the same delivery are not reset.
      *
-     * @param id          事件ID
+     * @param eventIds    事件ID集合
      * @param serviceName 服务名称
-     * @return 如果可用则返回true，否则返回false
-     * @since 1.0.0
+     * @since 2026-01-08
      */
     @Override
-    public boolean eventIdAndServiceNameAvailable(String id, String serviceName) {
-        String key = "tmp:hermes:" + id + ":for:" + serviceName + ":available";
-        String s = stringRedisTemplate.opsForValue().get(key);
-        if (StringUtils.isNotBlank(s))
-            return false;
+    public void processingBatch(Collection<String> eventIds, String serviceName) {
+        if (eventIds.isEmpty())
+            return;
+        boolean update = updateChain()
+                .set(ConsumptionPO::getStatus, ConsumptionStatus.PROCESSING)
+                .set(ConsumptionPO::getLeaseOwner, this.hermesService.instanceId())
+                .set(ConsumptionPO::getLeaseExpireTime, leaseExpireTime())
+                .where(ConsumptionPO::getSubscriber).eq(serviceName)
+                .where(ConsumptionPO::getEventId).in(eventIds)
+                .where(ConsumptionPO::getStatus).in(UNSETTLED)
+                .update();
+        if (log.isDebugEnabled())
+            log.debug("Hermes: {} for Service: {} processing: {}", eventIds, serviceName, update);
+    }
 
-        boolean available = queryChain()
+    /**
+     * 认领指定服务对事件的消费记录
+     * <p>
+     * 该方法使用一条条件更新语句，只有状态仍为待处理的记录才会被更新为处理中，
+     * 数据库行锁保证同一服务的多个实例中只有一个能更新成功，一次往返即完成判断与认领。
+     * Claim the consumption record of the event for the specified service
+     * <p>
+     * This method uses one conditional update statement, only a record still pending is moved to processing,
+     * the database row lock guarantees that only one instance of the service succeeds, checking and claiming in one round trip.
+     *
+     * @param id          事件ID
+     * @param serviceName 服务名称
+     * @return 如果认领成功则返回true，否则返回false
+     * @since 2026-01-08
+     */
+    @Override
+    public boolean claim(String id, String serviceName) {
+        boolean claimed = updateChain()
+                .set(ConsumptionPO::getStatus, ConsumptionStatus.PROCESSING)
+                .set(ConsumptionPO::getLeaseOwner, this.hermesService.instanceId())
+                .set(ConsumptionPO::getLeaseExpireTime, leaseExpireTime())
                 .where(ConsumptionPO::getEventId).eq(id)
                 .where(ConsumptionPO::getSubscriber).eq(serviceName)
-                .where(ConsumptionPO::getStatus).eq(ConsumptionStatus.PENDING.getId())
-                .exists();
-        if (available)
-            stringRedisTemplate.opsForValue().set(key, "lk", 30, TimeUnit.MINUTES);
-        return available;
+                .where(ConsumptionPO::getStatus).eq(value(ConsumptionStatus.PENDING))
+                .update();
+        if (log.isDebugEnabled())
+            log.debug("Hermes: {} for Service: {} claimed: {}", id, serviceName, claimed);
+        return claimed;
+    }
+
+    /**
+     * 续约指定实例仍在处理的事件的处理租约
+     * <p>
+     * 该方法按唯一键 (event_id, subscriber) 每 500 条一批延长仍由指定实例持有的处理中记录的租约。
+     * Renew the processing leases of the events the specified instance is still working on
+     * <p>
+     * This method extends the lease of the processing records still held by the specified instance through the
+     * (event_id, subscriber) unique key, 500 at a time.
+     *
+     * @param instanceId 服务实例编号
+     * @param eventIds   仍在处理的事件ID
+     * @return 续约的记录数
+     * @since 2026-01-08
+     */
+    @Override
+    public int renewLeases(String instanceId, Collection<String> eventIds) {
+        if (eventIds.isEmpty())
+            return 0;
+        String serviceName = this.hermesService.serviceName();
+        LocalDateTime leaseExpireTime = leaseExpireTime();
+        int renewed = 0;
+        for (List<String> batch : partitionListByStream(new ArrayList<>(eventIds), 500)) {
+            renewed += getMapper().updateByQuery(
+                    new ConsumptionPO().setLeaseExpireTime(leaseExpireTime),
+                    query()
+                            .where(ConsumptionPO::getEventId).in(batch)
+                            .where(ConsumptionPO::getSubscriber).eq(serviceName)
+                            .where(ConsumptionPO::getLeaseOwner).eq(instanceId)
+                            .where(ConsumptionPO::getStatus).eq(value(ConsumptionStatus.PROCESSING)));
+        }
+        if (log.isDebugEnabled())
+            log.debug("Instance: {} renewed {} leases", instanceId, renewed);
+        return renewed;
+    }
+
+    /**
+     * 将已下线实例持有的处理中记录重新入队
+     * <p>
+     * 该方法使用一条更新语句将指定实例持有的处理中记录更新为待处理。
+     * Requeue the processing records held by instances gone offline
+     * <p>
+     * This method moves the processing records held by the specified instances back to pending with one update statement.
+     *
+     * @param instanceIds 已下线的服务实例编号
+     * @return 重新入队的记录数
+     * @since 2026-01-08
+     */
+    @Override
+    public int requeueLeasesOf(Collection<String> instanceIds) {
+        if (instanceIds.isEmpty())
+            return 0;
+        int requeued = getMapper().updateByQuery(
+                new ConsumptionPO().setStatus(ConsumptionStatus.PENDING),
+                query()
+                        .where(ConsumptionPO::getLeaseOwner).in(instanceIds)
+                        .where(ConsumptionPO::getStatus).eq(value(ConsumptionStatus.PROCESSING)));
+        if (requeued > 0)
+            log.warn("Requeued {} processing consumptions of offline instances: {}", requeued, instanceIds);
+        return requeued;
+    }
+
+    /**
+     * 释放指定实例持有的处理中记录
+     * <p>
+     * 该方法沿 (lease_owner, status) 索引查询实例持有的处理中记录，再以同样条件按事件ID更新为待处理并清除租约，
+     * 期间已处理完成的记录不会被释放。
+     * Release the processing records held by the specified instance
+     * <p>
+     * This method walks the (lease_owner, status) index for the processing records of the instance, then moves them
+     * back to pending and clears the lease by event ID under the same conditions, so records finished meanwhile are
+     * not released.
+     *
+     * @param instanceId 停止中的服务实例编号
+     * @return 已释放记录的事件ID
+     * @since 2026-01-08
+     */
+    @Override
+    public List<String> releaseLeases(String instanceId) {
+        String serviceName = this.hermesService.serviceName();
+        List<String> eventIds = queryChain()
+                .select(ConsumptionPO::getEventId)
+                .where(ConsumptionPO::getSubscriber).eq(serviceName)
+                .where(ConsumptionPO::getLeaseOwner).eq(instanceId)
+                .where(ConsumptionPO::getStatus).eq(value(ConsumptionStatus.PROCESSING))
+                .listAs(String.class);
+        if (eventIds.isEmpty())
+            return eventIds;
+
+        boolean released = updateChain()
+                .set(ConsumptionPO::getStatus, value(ConsumptionStatus.PENDING))
+                .set(ConsumptionPO::getLeaseOwner, null)
+                .set(ConsumptionPO::getLeaseExpireTime, null)
+                .where(ConsumptionPO::getSubscriber).eq(serviceName)
+                .where(ConsumptionPO::getEventId).in(eventIds)
+                .where(ConsumptionPO::getLeaseOwner).eq(instanceId)
+                .where(ConsumptionPO::getStatus).eq(value(ConsumptionStatus.PROCESSING))
+                .update();
+        log.info("Instance: {} released {} processing consumptions: {}", instanceId, eventIds.size(), released);
+        return eventIds;
+    }
+
+    /**
+     * 将租约已过期的处理中记录分批重新入队
+     * <p>
+     * 该方法沿 (subscriber, status, lease_expire_time) 索引每次查询当前服务最多指定数量的过期记录，
+     * 再以同样条件按主键更新为待处理，期间被续约或已处理完成的记录不会被重新入队。
+     * Requeue the processing records whose lease expired, batch by batch
+     * <p>
+     * This method walks the (subscriber, status, lease_expire_time) index for up to the given number of expired records
+     * of the current service at a time, then moves them back to pending by primary key under the same conditions, so
+     * records renewed or finished meanwhile are not requeued.
+     *
+     * @param limit 每批最大数量
+     * @return 重新入队的记录数
+     * @since 2026-01-08
+     */
+    @Override
+    public int requeueExpiredLeases(int limit) {
+        String serviceName = this.hermesService.serviceName();
+        int total = 0;
+        List<String> ids;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            ids = queryChain()
+                    .select(ConsumptionPO::getId)
+                    .where(ConsumptionPO::getSubscriber).eq(serviceName)
+                    .where(ConsumptionPO::getStatus).eq(value(ConsumptionStatus.PROCESSING))
+                    .where(ConsumptionPO::getLeaseExpireTime).le(now)
+                    .limit(limit)
+                    .listAs(String.class);
+            if (ids.isEmpty())
+                break;
+            total += getMapper().updateByQuery(
+                    new ConsumptionPO().setStatus(ConsumptionStatus.PENDING),
+                    query()
+                            .where(ConsumptionPO::getId).in(ids)
+                            .where(ConsumptionPO::getStatus).eq(value(ConsumptionStatus.PROCESSING))
+                            .where(ConsumptionPO::getLeaseExpireTime).le(now));
+        } while (ids.size() >= limit);
+        if (total > 0)
+            log.warn("Requeued {} processing consumptions with expired leases", total);
+        return total;
+    }
+
+    /**
+     * 计算从现在开始的租约到期时间
+     * <p>
+     * Compute the lease expire time from now
+     *
+     * @return 租约到期时间
+     * @since 2026-01-08
+     */
+    private LocalDateTime leaseExpireTime() {
+        return LocalDateTime.now().plus(this.consumeProperty.getLeaseMillis(), ChronoUnit.MILLIS);
     }
 
     /**
      * 标记事件正在处理中
      * <p>
-     * 该方法将指定事件标记为正在被指定应用处理。
+     * 该方法将指定事件标记为正在被指定应用处理；同一次投递中已被其他监听器标记为重试或死信、或已成功的记录保持不变。
      * Mark event as being processed
      * <p>
-     * This method marks the specified event as being processed by the specified application.
+     * This method marks the specified event as being processed by the specified application; records already marked as
+     * retrying or dead by another listener of the same delivery, or already succeeded, are left unchanged.
      *
      * @param eventId     事件ID
      * @param application 应用名称
@@ -159,8 +422,11 @@ public class ConsumptionMapperServiceImpl
     public void processingEvent(String eventId, String application) {
         boolean update = this.updateChain()
                 .set(ConsumptionPO::getStatus, ConsumptionStatus.PROCESSING)
+                .set(ConsumptionPO::getLeaseOwner, this.hermesService.instanceId())
+                .set(ConsumptionPO::getLeaseExpireTime, leaseExpireTime())
                 .where(ConsumptionPO::getEventId).eq(eventId)
                 .where(ConsumptionPO::getSubscriber).eq(application)
+                .where(ConsumptionPO::getStatus).in(UNSETTLED)
                 .update();
         if (log.isDebugEnabled())
             log.info("服务： {} 对 Hermes: {} 处理中: {}",
@@ -180,90 +446,219 @@ public class ConsumptionMapperServiceImpl
      * @param eventId     事件ID
      * @param application 应用名称
      * @param err         错误信息
+     * @return 消费记录进入的状态，记录未被更新时返回null
      * @since 1.0.0
      */
     @Override
-    public void errorEvent(String eventId, String application, String err) {
-        boolean update = updateChain()
-                .set(ConsumptionPO::getStatus, ConsumptionStatus.FAILED)
-                .set(ConsumptionPO::getCode, "500")
-                .set(ConsumptionPO::getDescription, err)
-                .where(ConsumptionPO::getSubscriber).eq(application)
-                .where(ConsumptionPO::getEventId).eq(eventId)
-                .update();
-        if (log.isDebugEnabled())
-            log.info("Hermes: {} for Service: {}  had error: {}, update result: {}", eventId, application, err, update);
+    public ConsumptionStatus errorEvent(String eventId, String application, String err) {
+        return failed(eventId, application, "500", err);
     }
 
     /**
      * 标记事件处理成功
      * <p>
-     * 该方法将指定事件标记为在指定应用中处理成功。
+     * 该方法使用一条条件更新语句将指定事件标记为在指定应用中处理成功，已成功、已安排重试或已死信的记录保持不变，
+     * 影响行数即表示是否需要累加事件的成功计数。
      * Mark event processing as successful
      * <p>
-     * This method marks the specified event as having been successfully processed in the specified application.
+     * This method marks the specified event as having been successfully processed in the specified application with one
+     * conditional update statement, records already succeeded, scheduled for retry or dead are left unchanged,
+     * so the affected row tells whether the success counter of the event is to be incremented.
      *
      * @param eventId     事件ID
      * @param application 应用名称
+     * @return 记录是否由本次调用更新为成功
      * @since 1.0.0
      */
     @Override
-    public ConsumptionCount succeedEvent(String eventId, String application) {
-        boolean update = updateChain()
-                .set(ConsumptionPO::getStatus, ConsumptionStatus.SUCCEEDED)
-                .set(ConsumptionPO::getCode, "0")
-                .set(ConsumptionPO::getDescription, "SUCCESS")
+    public boolean succeedEvent(String eventId, String application) {
+        boolean update = succeeded("SUCCESS")
                 .where(ConsumptionPO::getSubscriber).eq(application)
                 .where(ConsumptionPO::getEventId).eq(eventId)
                 .update();
         if (log.isDebugEnabled())
             log.info("Hermes: {} for Service: {}  had succeed, update result: {}", eventId, application, update);
+        return update;
+    }
 
-        ConsumptionStatus[] values = ConsumptionStatus.values();
-        int len = values.length + 1;
-        String[] columns = new String[len];
-        columns[0] = "COUNT(1) AS total";
-        for (int i = 0; i < values.length; i++) {
-            ConsumptionStatus value = values[i];
-            int index = i + 1;
-            columns[index] = "SUM(CASE WHEN status = '" + value.getId() + "' THEN 1 ELSE 0 END) AS " + value.getCode();
-        }
+    /**
+     * 批量标记事件处理成功
+     * <p>
+     * 该方法在一个事务内锁定指定服务一批可更新为成功的记录，再使用一条更新语句标记为成功，
+     * 返回的事件ID即需要累加成功计数的事件。
+     * Batch mark event processing as successful
+     * <p>
+     * This method locks the records of the specified service that can be marked as successful in one transaction,
+     * then marks them with one update statement, the returned event IDs are the events whose success counter is to be incremented.
+     *
+     * @param eventIds    事件ID集合
+     * @param serviceName 服务名称
+     * @param description 结果描述
+     * @return 由本次调用更新为成功的事件ID
+     * @since 2026-01-08
+     */
+    @Override
+    @Transactional
+    public List<String> succeededBatch(Collection<String> eventIds, String serviceName, String description) {
+        if (eventIds.isEmpty())
+            return List.of();
+        QueryWrapper wrapper = query()
+                .select(ConsumptionPO::getEventId)
+                .where(ConsumptionPO::getSubscriber).eq(serviceName)
+                .where(ConsumptionPO::getEventId).in(eventIds)
+                .where(ConsumptionPO::getStatus).notIn(SETTLED);
+        CPI.setEndFragments(wrapper, List.of("FOR UPDATE"));
+        List<String> locked = listAs(wrapper, String.class);
+        if (locked.isEmpty())
+            return locked;
 
-        return queryChain()
-                .select(columns)
-                .where(ConsumptionPO::getEventId).eq(eventId)
-                .oneAs(ConsumptionCount.class);
+        boolean update = succeeded(description)
+                .where(ConsumptionPO::getSubscriber).eq(serviceName)
+                .where(ConsumptionPO::getEventId).in(locked)
+                .update();
+        if (log.isDebugEnabled())
+            log.debug("Hermes: {} for Service: {}  had succeed, update result: {}", locked, serviceName, update);
+        return locked;
+    }
+
+    @Override
+    public void deadBatch(Collection<String> eventIds, String serviceName, String description) {
+        if (eventIds.isEmpty())
+            return;
+        boolean update = updateChain()
+                .set(ConsumptionPO::getStatus, ConsumptionStatus.DEAD)
+                .set(ConsumptionPO::getCode, "404")
+                .set(ConsumptionPO::getDescription, description)
+                .where(ConsumptionPO::getSubscriber).eq(serviceName)
+                .where(ConsumptionPO::getEventId).in(eventIds)
+                .where(ConsumptionPO::getStatus).in(UNSETTLED)
+                .update();
+        if (log.isDebugEnabled())
+            log.debug("Hermes: {} for Service: {} had dead, update result: {}", eventIds, serviceName, update);
+    }
+
+    /**
+     * 构建将尚未终结的记录更新为成功的更新语句
+     * <p>
+     * Build the update marking records not yet settled as successful
+     *
+     * @param description 结果描述
+     * @return 更新语句
+     * @since 2026-01-08
+     */
+    private UpdateChain<ConsumptionPO> succeeded(String description) {
+        return updateChain()
+                .set(ConsumptionPO::getStatus, ConsumptionStatus.SUCCEEDED)
+                .set(ConsumptionPO::getCode, "0")
+                .set(ConsumptionPO::getDescription, description)
+                .where(ConsumptionPO::getStatus).notIn(SETTLED);
     }
 
     /**
      * 记录消费日志
      * <p>
      * 该方法记录事件消费的日志信息，包括事件ID、服务名称、状态码和错误信息，
-     * 并根据状态码更新事件的消费状态。
+     * 并根据状态码更新事件的消费状态，失败时安排重试。
      * Log consumption information
      * <p>
      * This method records log information for event consumption, including event ID, service name, status code, and error information,
-     * and updates the event's consumption status based on the status code.
+     * and updates the event's consumption status based on the status code, scheduling a retry on failure.
      *
      * @param id          事件ID
      * @param serviceName 服务名称
      * @param code        状态码
      * @param err         错误信息
+     * @return 消费记录进入的状态，记录未被更新时返回null
      * @since 1.0.0
      */
     @Override
-    public void log(String id, String serviceName, String code, String err) {
-        ConsumptionStatus status = StringUtils.equals(code, "0") ? ConsumptionStatus.SUCCEEDED : ConsumptionStatus.FAILED;
-        boolean update = this.updateChain()
-                .set(ConsumptionPO::getStatus, status)
-                .set(ConsumptionPO::getCode, code)
-                .set(ConsumptionPO::getDescription, err)
+    public ConsumptionStatus log(String id, String serviceName, String code, String err) {
+        if (!StringUtils.equals(code, "0"))
+            return failed(id, serviceName, code, err);
+
+        // 监听器已安排的重试或死信不被事件总线的分发结果覆盖
+        boolean update = succeeded(err)
                 .where(ConsumptionPO::getEventId).eq(id)
                 .where(ConsumptionPO::getSubscriber).eq(serviceName)
                 .update();
         if (log.isDebugEnabled())
             log.info("服务： {} 对 Hermes: {} 处理结果：{} 记录结果： {}\r\n",
                     serviceName, id, err, update);
+        return update ? ConsumptionStatus.SUCCEEDED : null;
+    }
+
+    /**
+     * 记录消费失败并安排重试
+     * <p>
+     * 使用一条条件更新语句原子地将重试次数加一：未超过上限时更新为重试中，下次执行时间按带抖动的指数退避计算；
+     * 否则更新为死信，等待人工干预。只有待处理或处理中的记录会被更新，同一次投递中多个监听器失败只计一次重试，
+     * 已重试中、已成功或已死信的记录保持不变。
+     * Record a consumption failure and schedule a retry
+     * <p>
+     * One conditional update statement increments the retry count atomically: within the limit the record moves to
+     * retrying with the next execution time computed by jittered exponential backoff; otherwise it becomes dead,
+     * waiting for manual intervention. Only pending or processing records are updated, so several listeners failing
+     * in the same delivery count as one retry, records already retrying, succeeded or dead are left unchanged.
+     *
+     * @param eventId     事件ID
+     * @param application 应用名称
+     * @param code        状态码
+     * @param err         错误信息
+     * @return 消费记录进入的状态，记录未被更新时返回null
+     * @since 2026-01-08
+     */
+    private ConsumptionStatus failed(String eventId, String application, String code, String err) {
+        int maxRetryTimes = this.consumeProperty.getMaxRetryTimes();
+        String dead = "COALESCE(retry_times, 0) + 1 > " + maxRetryTimes;
+        // 状态与下次执行时间先于重试次数赋值，均按更新前的重试次数计算，与数据库对 SET 子句的求值顺序无关
+        boolean update = updateChain()
+                .setRaw(ConsumptionPO::getStatus, "CASE WHEN " + dead + " THEN '" + value(ConsumptionStatus.DEAD)
+                        + "' ELSE '" + value(ConsumptionStatus.RETRYING) + "' END")
+                .setRaw(ConsumptionPO::getNextTime, "CASE WHEN " + dead + " THEN next_time ELSE " + nextTime() + " END")
+                .set(ConsumptionPO::getCode, code)
+                .set(ConsumptionPO::getDescription, err)
+                .setRaw(ConsumptionPO::getRetryTimes, "COALESCE(retry_times, 0) + 1")
+                .where(ConsumptionPO::getSubscriber).eq(application)
+                .where(ConsumptionPO::getEventId).eq(eventId)
+                .where(ConsumptionPO::getStatus).in(UNSETTLED)
+                .update();
+        if (!update)
+            return null;
+
+        // 死信是终结状态，更新后读到的死信必由本次更新产生
+        ConsumptionPO po = queryChain()
+                .select(ConsumptionPO::getStatus, ConsumptionPO::getRetryTimes)
+                .where(ConsumptionPO::getSubscriber).eq(application)
+                .where(ConsumptionPO::getEventId).eq(eventId)
+                .one();
+        boolean isDead = Objects.nonNull(po) && po.getStatus() == ConsumptionStatus.DEAD;
+        int retryTimes = Objects.isNull(po) || Objects.isNull(po.getRetryTimes()) ? 0 : po.getRetryTimes();
+        if (isDead)
+            log.warn("Hermes: {} for Service: {} is dead after {} retries: {}", eventId, application, retryTimes - 1, err);
+        else if (log.isDebugEnabled())
+            log.debug("Hermes: {} for Service: {}  had error: {}, retry times: {}", eventId, application, err, retryTimes);
+        return isDead ? ConsumptionStatus.DEAD : ConsumptionStatus.RETRYING;
+    }
+
+    /**
+     * 构建下次执行时间的 SQL 表达式
+     * <p>
+     * 以初始退避时间为基数按更新前的重试次数翻倍，不超过上限，再乘以后一半区间内的随机系数，避免同时失败的记录同时重试。
+     * Build the SQL expression of the next execution time
+     * <p>
+     * The initial backoff doubles by the retry count before the update up to the upper bound, then is multiplied by a
+     * random factor in the upper half so records failing together do not retry together.
+     *
+     * @return 下次执行时间表达式
+     * @since 2026-01-08
+     */
+    private String nextTime() {
+        long initial = Math.max(1, this.consumeProperty.getRetryInitialDelayMillis());
+        long max = Math.max(initial, this.consumeProperty.getRetryMaxDelayMillis());
+        double jitter = 0.5 + ThreadLocalRandom.current().nextDouble() / 2;
+        return String.format(Locale.ROOT,
+                "DATE_ADD(NOW(3), INTERVAL FLOOR(LEAST(%d, %d * POW(2, LEAST(COALESCE(retry_times, 0), 62))) * %.6f) * 1000 MICROSECOND)",
+                max, initial, jitter);
     }
 
     /**
@@ -293,6 +688,72 @@ public class ConsumptionMapperServiceImpl
         partitionListByStream(collect, 100).forEach(this::saveBatch);
     }
 
+    /**
+     * 状态在数据库中的取值
+     * <p>
+     * status 列为 varchar，状态按字符串绑定，比较时不会逐行类型转换，(subscriber, status, ...) 索引才能生效。
+     * Database values of the statuses
+     * <p>
+     * The status column is a varchar, statuses are bound as strings so comparisons need no per-row cast and the
+     * (subscriber, status, ...) indexes can be used.
+     *
+     * @param statuses 状态
+     * @return 状态取值
+     * @since 2026-01-08
+     */
+    private static Object[] values(ConsumptionStatus... statuses) {
+        Object[] res = new Object[statuses.length];
+        for (int i = 0; i < statuses.length; i++) {
+            res[i] = value(statuses[i]);
+        }
+        return res;
+    }
+
+    /**
+     * 状态在数据库中的取值
+     * <p>
+     * Database value of the status
+     *
+     * @param status 状态
+     * @return 状态取值
+     * @since 2026-01-08
+     */
+    private static String value(ConsumptionStatus status) {
+        return String.valueOf(status.getId());
+    }
+
+    /**
+     * 批量发送事件给各自的服务列表
+     * <p>
+     * 该方法为多个事件预先分配消费记录编号，并使用多行插入语句每100条保存一次。
+     * Batch send events to their service lists
+     * <p>
+     * This method pre-assigns consumption record IDs for multiple events and saves them
+     * with multi-row insert statements, 100 rows per statement.
+     *
+     * @param sendTo 事件ID -> 服务名称集合
+     * @since 2026-01-08
+     */
+    @Override
+    public void sendBatch(Map<String, Set<String>> sendTo) {
+        IKeyGenerator keyGenerator = KeyGeneratorFactory.getKeyGenerator(HermesIdConfig.KEY_GENERATOR);
+        LocalDateTime now = LocalDateTime.now();
+        List<ConsumptionPO> collect = new ArrayList<>();
+        sendTo.forEach((id, services) -> services.forEach(item -> {
+            ConsumptionPO po = new ConsumptionPO()
+                    .setEventId(id)
+                    .setSubscriber(item)
+                    .setStatus(ConsumptionStatus.PENDING)
+                    .setRetryTimes(0)
+                    .setUpdateTime(now);
+            collect.add(po.setId(String.valueOf(keyGenerator.generate(po, "id"))));
+        }));
+        if (collect.isEmpty())
+            return;
+
+        getMapper().insertBatch(collect, 100);
+    }
+
     private static <T> List<List<T>> partitionListByStream(List<T> originalList, @SuppressWarnings("SameParameterValue") int batchSize) {
         final int totalSize = originalList.size();
         return IntStream.range(0, (totalSize + batchSize - 1) / batchSize)
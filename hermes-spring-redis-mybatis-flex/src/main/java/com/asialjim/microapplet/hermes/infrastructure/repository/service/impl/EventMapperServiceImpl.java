@@ -17,23 +17,28 @@
 package com.asialjim.microapplet.hermes.infrastructure.repository.service.impl;
 
 import com.asialjim.microapplet.hermes.HermesStatus;
+import com.asialjim.microapplet.hermes.infrastructure.config.id.HermesIdConfig;
 import com.asialjim.microapplet.hermes.infrastructure.repository.mapper.EventBaseMapper;
-import com.asialjim.microapplet.hermes.infrastructure.repository.po.ConsumptionCount;
 import com.asialjim.microapplet.hermes.infrastructure.repository.po.EventPO;
 import com.asialjim.microapplet.hermes.infrastructure.repository.service.EventMapperService;
 import com.asialjim.util.jackson.Json;
-import com.mybatisflex.core.update.UpdateChain;
+import com.mybatisflex.core.keygen.IKeyGenerator;
+import com.mybatisflex.core.keygen.KeyGeneratorFactory;
 import com.mybatisflex.spring.service.impl.ServiceImpl;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.math.NumberUtils;
-import org.springframework.aop.framework.AopContext;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -71,6 +76,30 @@ public class EventMapperServiceImpl
         stringRedisTemplate.opsForValue().set(key, json, 6, TimeUnit.HOURS);
     }
 
+    @Override
+    public void saveBatchCacheable(List<EventPO> pos) {
+        if (CollectionUtils.isEmpty(pos))
+            return;
+
+        // 预先分配编号，多行插入后无需回填主键
+        IKeyGenerator keyGenerator = KeyGeneratorFactory.getKeyGenerator(HermesIdConfig.KEY_GENERATOR);
+        for (EventPO po : pos) {
+            if (StringUtils.isBlank(po.getId()))
+                po.setId(String.valueOf(keyGenerator.generate(po, "id")));
+        }
+        getMapper().insertBatch(pos, 100);
+
+        Expiration expiration = Expiration.from(6, TimeUnit.HOURS);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (EventPO po : pos) {
+                byte[] key = ("tmp:hermes:by-id:" + po.getId()).getBytes(StandardCharsets.UTF_8);
+                byte[] json = Json.instance.toStr(po).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().set(key, json, expiration, RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
     @Override
     public void processingEvent(String eventId, String application) {
         boolean update = updateChain()
@@ -83,27 +112,43 @@ public class EventMapperServiceImpl
     }
 
     @Override
-    public void succeedEvent(String eventId, ConsumptionCount count) {
-        EventMapperService mapperService = (EventMapperService) AopContext.currentProxy();
-        EventPO event = mapperService.queryById(eventId);
-        int subServiceNum = Optional.ofNullable(event.getSubServiceNum()).orElse(0);
-        long succeeded = count.getSucceeded();
-        long failed = count.getFailed();
-
-        UpdateChain<EventPO> chian = updateChain();
-        chian.where(EventPO::getId).eq(eventId);
-
-        if (failed > 0)
-            chian.set(EventPO::getStatus, HermesStatus.PARTIALLY_FAILED);
+    public void processingEvents(Collection<String> eventIds) {
+        if (CollectionUtils.isEmpty(eventIds))
+            return;
+        boolean update = updateChain()
+                .set(EventPO::getStatus, HermesStatus.PROCESSING)
+                .where(EventPO::getId).in(eventIds)
+                .update();
 
-        if (NumberUtils.compare(subServiceNum, succeeded) == 0)
-            chian.set(EventPO::getStatus, HermesStatus.COMPLETED);
+        if (log.isDebugEnabled())
+            log.debug("事件：{} 处理中：{}", eventIds, update);
+    }
 
-        chian.set(EventPO::getSucceedServiceNum, succeeded);
-        chian.set(EventPO::getFailedServiceNum, failed);
+    @Override
+    public void increaseSucceeded(Collection<String> eventIds, int delta) {
+        if (CollectionUtils.isEmpty(eventIds) || delta <= 0)
+            return;
+        // 状态先于计数赋值，按更新前的计数判断，与数据库对 SET 子句的求值顺序无关
+        boolean update = updateChain()
+                .setRaw(EventPO::getStatus, "CASE WHEN succeed_service_num + " + delta + " >= sub_service_num THEN '"
+                        + HermesStatus.COMPLETED.getId() + "' ELSE status END")
+                .setRaw(EventPO::getSucceedServiceNum, "succeed_service_num + " + delta)
+                .where(EventPO::getId).in(eventIds)
+                .update();
+        if (log.isDebugEnabled())
+            log.debug("事件：{} 成功服务数增加 {}：{}", eventIds, delta, update);
+    }
 
-        boolean update = chian.update();
+    @Override
+    public void increaseFailed(Collection<String> eventIds, int delta) {
+        if (CollectionUtils.isEmpty(eventIds) || delta <= 0)
+            return;
+        boolean update = updateChain()
+                .set(EventPO::getStatus, HermesStatus.PARTIALLY_FAILED)
+                .setRaw(EventPO::getFailedServiceNum, "failed_service_num + " + delta)
+                .where(EventPO::getId).in(eventIds)
+                .update();
         if (log.isDebugEnabled())
-            log.info("修改事件：{} 状态结果：{}", eventId, update);
+            log.debug("事件：{} 失败服务数增加 {}：{}", eventIds, delta, update);
     }
 }
\ No newline at end of file
@@ -19,8 +19,6 @@ package com.asialjim.microapplet.hermes.infrastructure.repository.service.impl;
 import com.asialjim.microapplet.hermes.infrastructure.repository.mapper.SubscriberBaseMapper;
 import com.asialjim.microapplet.hermes.infrastructure.repository.po.SubscriberPO;
 import com.asialjim.microapplet.hermes.infrastructure.repository.service.SubscriberMapperService;
-import com.asialjim.util.jackson.Json;
-import com.mybatisflex.core.query.QueryChain;
 import com.mybatisflex.core.query.QueryWrapper;
 import com.mybatisflex.spring.service.impl.ServiceImpl;
 import jakarta.annotation.Resource;
@@ -29,20 +27,58 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Repository
 public class SubscriberMapperServiceImpl
         extends ServiceImpl<SubscriberBaseMapper, SubscriberPO>
         implements SubscriberMapperService {
+    /**
+     * 本地路由表的最长有效期，防止错过变更通知后长期使用过期路由
+     * Max age of the local routing table, guards against stale routes after a missed change notification
+     */
+    private static final long ROUTES_MAX_AGE = TimeUnit.MINUTES.toNanos(10);
+
     @Resource
     private StringRedisTemplate stringRedisTemplate;
 
+    /**
+     * 本地路由表：事件类型 -> 订阅服务名称集合，为空时表示需要重新加载
+     * Local routing table: event type -> subscriber service names, null means it needs to be reloaded
+     */
+    private volatile Map<String, Set<String>> routes;
+
+    /**
+     * 本地路由表加载时间
+     * Load time of the local routing table
+     */
+    private volatile long routesLoadedAt;
+
+    /**
+     * 路由表版本，每次失效时递增，避免加载期间发生的变更被旧数据覆盖
+     * Routing table version, incremented on every invalidation so a load racing with a change does not publish stale data
+     */
+    private final AtomicLong routesVersion = new AtomicLong();
+
+    /**
+     * 正在进行的路由表加载，并发调用者等待同一次加载的结果，不再各自全表扫描
+     * Routing table load in progress, concurrent callers wait for the result of the same load instead of each scanning
+     * the whole table
+     */
+    private final AtomicReference<CompletableFuture<Map<String, Set<String>>>> routesLoading = new AtomicReference<>();
+
+    /**
+     * 加载期间发生变更时的最多加载次数
+     * Maximum load attempts when changes happen during the load
+     */
+    private static final int ROUTES_LOAD_ATTEMPTS = 3;
+
     @Override
     public void unRegisterInstance(Collection<String> expiredInstanceSet) {
         QueryWrapper where = query()
@@ -50,31 +86,99 @@ public class SubscriberMapperServiceImpl
         boolean remove = remove(where);
         if (log.isDebugEnabled())
             log.info("{} 订阅已下线：{}",expiredInstanceSet,remove);
+        if (remove)
+            routesChanged("*");
     }
 
 
     @Override
     public Set<String> applicationsByEventType(String type) {
-        String key = "tmp:hermes:register:subService:" + type;
+        Map<String, Set<String>> table = this.routes;
+        if (Objects.isNull(table) || System.nanoTime() - this.routesLoadedAt > ROUTES_MAX_AGE)
+            table = loadRoutes();
+        return table.getOrDefault(type, Collections.emptySet());
+    }
 
-        String json = stringRedisTemplate.opsForValue().get(key);
-        if (StringUtils.isNotBlank(json)) {
-            List<String> list = Json.instance.toList(json, String.class);
-            return new HashSet<>(list);
+    @Override
+    public Map<String, Set<String>> loadRoutes() {
+        CompletableFuture<Map<String, Set<String>>> loading = new CompletableFuture<>();
+        CompletableFuture<Map<String, Set<String>>> inFlight = this.routesLoading.compareAndExchange(null, loading);
+        if (Objects.nonNull(inFlight)) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause)
+                    throw cause;
+                throw e;
+            }
         }
 
-        QueryChain<SubscriberPO> chain = queryChain();
-        //noinspection unchecked
-        List<String> strings = chain.select(SubscriberPO::getApplication)
-                .where(SubscriberPO::getType).eq(type)
-                .listAs(String.class);
+        try {
+            Map<String, Set<String>> res = null;
+            // 加载期间发生变更时重新加载，超过次数后仍把最后一次结果返回给调用者，但不替换本地路由表
+            for (int attempt = 0; attempt < ROUTES_LOAD_ATTEMPTS; attempt++) {
+                long version = this.routesVersion.get();
+                res = scanRoutes();
+                // 加载期间没有发生变更时才替换本地路由表
+                if (this.routesVersion.get() == version) {
+                    this.routes = res;
+                    this.routesLoadedAt = System.nanoTime();
+                    break;
+                }
+            }
+            loading.complete(res);
+            return res;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.routesLoading.compareAndSet(loading, null);
+        }
+    }
 
-        Set<String> res = new HashSet<>(strings);
-        json = Json.instance.toStr(res);
-        stringRedisTemplate.opsForValue().set(key, json, 1, TimeUnit.HOURS);
+    /**
+     * 全表扫描订阅关系，构建路由表
+     * Scan all subscriptions and build the routing table
+     *
+     * @return 事件类型 -> 订阅服务名称集合
+     * @since 2026-01-08
+     */
+    private Map<String, Set<String>> scanRoutes() {
+        List<SubscriberPO> list = queryChain()
+                .select(SubscriberPO::getType, SubscriberPO::getApplication)
+                .list();
+
+        Map<String, Set<String>> table = new HashMap<>();
+        for (SubscriberPO po : list) {
+            if (StringUtils.isAnyBlank(po.getType(), po.getApplication()))
+                continue;
+            table.computeIfAbsent(po.getType(), key -> new HashSet<>()).add(po.getApplication());
+        }
+        table.replaceAll((key, value) -> Set.copyOf(value));
+        Map<String, Set<String>> res = Map.copyOf(table);
+        if (log.isDebugEnabled())
+            log.debug("加载订阅路由表：{}", res);
         return res;
     }
 
+    @Override
+    public void invalidateRoutes() {
+        this.routesVersion.incrementAndGet();
+        this.routes = null;
+    }
+
+    /**
+     * 订阅关系变更，使本地路由表失效并通知其他实例
+     * Subscriptions changed, invalidate the local routing table and notify other instances
+     *
+     * @param type 变更的事件类型，{@code *} 表示全部
+     * @since 2026-01-08
+     */
+    private void routesChanged(String type) {
+        invalidateRoutes();
+        this.stringRedisTemplate.convertAndSend(ROUTES_CHANNEL, type);
+    }
+
     @Override
     public void register(String instanceId, String typeName, Set<String> serviceNames) {
         if (log.isDebugEnabled())
@@ -85,8 +189,7 @@ public class SubscriberMapperServiceImpl
                 .filter(item -> !hadSubscribe(instanceId, typeName, item.getApplication()))
                 .forEach(this::save);
 
-        String key = "tmp:hermes:register:subService:" + typeName;
-        this.stringRedisTemplate.delete(key);
+        routesChanged(typeName);
     }
 
 
@@ -19,19 +19,23 @@ package com.asialjim.microapplet.hermes.listener;
 import com.asialjim.microapplet.hermes.HermesService;
 import com.asialjim.microapplet.hermes.annotation.OnEvent;
 import com.asialjim.microapplet.hermes.event.Register2HermesSucceed;
+import com.asialjim.microapplet.hermes.infrastructure.config.consume.HermesConsumeProperty;
 import com.asialjim.microapplet.hermes.provider.HermesRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
@@ -62,12 +66,14 @@ import java.util.function.Consumer;
  */
 @Slf4j
 @Component
-public class RedisHermesConsumer extends HermesConsumer implements MessageListener {
+@ConditionalOnProperty(prefix = "hermes.stream", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class RedisHermesConsumer extends HermesConsumer implements MessageListener, SubscriptionListener {
     /**
      * 事件ID消费者，用于处理接收到的事件ID
      */
     private Consumer<String> consumer;
     private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final HermesConsumeProperty consumeProperty;
 
     /**
      * 构造函数
@@ -79,15 +85,21 @@ public class RedisHermesConsumer extends HermesConsumer implements MessageListen
      *                         Service name
      * @param hermesRepository 事件仓库
      *                         Event repository
+     * @param redisMessageListenerContainer Redis 消息监听容器
+     *                                      Redis message listener container
+     * @param consumeProperty  消费配置
+     *                         Consume configuration
      * @since 2026-01-08
      */
     public RedisHermesConsumer(@Nullable ScheduledExecutorService scheduler,
                                HermesService hermesService,
                                HermesRepository hermesRepository,
-                               RedisMessageListenerContainer redisMessageListenerContainer) {
+                               RedisMessageListenerContainer redisMessageListenerContainer,
+                               HermesConsumeProperty consumeProperty) {
 
         super(scheduler, hermesService, hermesRepository);
         this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.consumeProperty = consumeProperty;
     }
 
 
@@ -156,7 +168,8 @@ public class RedisHermesConsumer extends HermesConsumer implements MessageListen
 
         byte[] body = message.getBody();
         String hermesId = new String(body, StandardCharsets.UTF_8);
-        log.info("Redis Hermes {} Got...", hermesId);
+        if (log.isDebugEnabled())
+            log.debug("Redis Hermes {} Got...", hermesId);
 
         try {
             this.consumer.accept(hermesId);
@@ -164,6 +177,28 @@ public class RedisHermesConsumer extends HermesConsumer implements MessageListen
         }
     }
 
+    /**
+     * 频道订阅成功回调方法
+     * Channel subscribed callback method
+     * <p>
+     * 断线重连后容器重新订阅频道时调用，立即补偿消费断线期间错过的通知
+     * <p>
+     * Called when the container subscribes the channel again after a reconnect,
+     * runs compensation consumption immediately to catch up notifications missed while disconnected
+     *
+     * @param channel 订阅的频道
+     *                Subscribed channel
+     * @param count   当前订阅数量
+     *                Current subscription count
+     * @since 2026-01-08
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (log.isDebugEnabled())
+            log.debug("订阅Hermes 频道：{}", new String(channel, StandardCharsets.UTF_8));
+        wakeUpReConsumption();
+    }
+
     /**
      * 设置事件ID消费者
      * Set event ID consumer
@@ -181,17 +216,36 @@ public class RedisHermesConsumer extends HermesConsumer implements MessageListen
         this.consumer = consumer;
     }
 
+    /**
+     * 停止期限取自消费配置
+     * The stop deadline comes from the consume configuration
+     *
+     * @return 停止期限
+     * Stop deadline
+     * @since 2026-01-08
+     */
+    @Override
+    protected Duration shutdownTimeout() {
+        return Duration.ofMillis(Math.max(0, this.consumeProperty.getShutdownTimeoutMillis()));
+    }
+
     /**
      * 优雅关闭MQ监听器
      * Gracefully shutdown MQ listener
      * <p>
-     * 本实现中不执行任何操作，因为Redis监听器的关闭由RedisTemplate管理
+     * 从监听容器中移除本消费者订阅的全部事件频道，容器本身由 Spring 管理，其他监听器的订阅不受影响
      * <p>
-     * This implementation does not perform any operations because the shutdown of Redis listener is managed by RedisTemplate
+     * Removes all event channels subscribed by this consumer from the listener container, the container itself is
+     * managed by Spring and subscriptions of other listeners are not affected
      *
      * @since 2026-01-08
      */
     @Override
     protected void gracefullyShutdownMQListener() {
+        this.redisMessageListenerContainer.removeMessageListener(this);
+        this.consumer = hermesId -> {
+            if (log.isDebugEnabled())
+                log.debug("Hermes 消费者已停止，忽略事件：{}", hermesId);
+        };
     }
 }
\ No newline at end of file
@@ -0,0 +1,309 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.listener;
+
+import com.asialjim.microapplet.hermes.HermesService;
+import com.asialjim.microapplet.hermes.infrastructure.config.consume.HermesConsumeProperty;
+import com.asialjim.microapplet.hermes.infrastructure.config.stream.HermesStreamProperty;
+import com.asialjim.microapplet.hermes.provider.HermesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Redis Stream Hermes事件消费者
+ * Redis Stream Hermes Event Consumer
+ * <p>
+ * {@code hermes.stream.enabled=true} 时替代 {@link RedisHermesConsumer}，从本服务的 Stream
+ * {@code hermes:stream:<服务名>} 读取事件编号：
+ * 1. 以服务名为消费者组、实例编号为消费者，通过 XREADGROUP 在同一服务的实例间负载均衡
+ * 2. 事件处理完成后 XACK 确认，处理失败的消息保持未确认状态
+ * 3. 定时通过 XPENDING + XCLAIM 认领长时间未确认的消息重新投递，超过最大投递次数后确认并交由数据库补偿消费
+ * <p>
+ * Replaces {@link RedisHermesConsumer} when {@code hermes.stream.enabled=true}, reads event IDs from the stream
+ * {@code hermes:stream:<service name>} of this service:
+ * 1. Uses the service name as consumer group and the instance ID as consumer, XREADGROUP balances the load across instances of the service
+ * 2. Acknowledges by XACK once the event is handled, messages whose handling failed stay unacknowledged
+ * 3. Periodically claims messages left unacknowledged too long by XPENDING + XCLAIM and redelivers them,
+ * after the maximum deliveries they are acknowledged and left to the database compensation
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "hermes.stream", name = "enabled", havingValue = "true")
+public class RedisStreamHermesConsumer extends HermesConsumer implements StreamListener<String, MapRecord<String, String, String>> {
+    /**
+     * 消息中保存事件编号的字段
+     * Field holding the event ID in a message
+     */
+    public static final String FIELD = "id";
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final HermesStreamProperty property;
+    private final HermesConsumeProperty consumeProperty;
+
+    /**
+     * 事件ID消费者，用于处理读取到的事件ID
+     */
+    private Consumer<String> consumer;
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+
+    /**
+     * 构造函数
+     * Constructor
+     *
+     * @param scheduler              调度器，用于执行补偿消费、心跳与消息认领
+     *                               Scheduler for compensation consumption, heartbeat and message claiming
+     * @param hermesService          服务名称
+     *                               Service name
+     * @param hermesRepository       事件仓库
+     *                               Event repository
+     * @param redisConnectionFactory Redis 连接工厂
+     *                               Redis connection factory
+     * @param stringRedisTemplate    Redis 模板
+     *                               Redis template
+     * @param property               Stream 传输配置
+     *                               Stream transport configuration
+     * @param consumeProperty        消费配置
+     *                               Consume configuration
+     * @since 2026-01-08
+     */
+    public RedisStreamHermesConsumer(@Nullable ScheduledExecutorService scheduler,
+                                     HermesService hermesService,
+                                     HermesRepository hermesRepository,
+                                     RedisConnectionFactory redisConnectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     HermesStreamProperty property,
+                                     HermesConsumeProperty consumeProperty) {
+        super(scheduler, hermesService, hermesRepository);
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.property = property;
+        this.consumeProperty = consumeProperty;
+    }
+
+    /**
+     * 本服务的 Stream 键
+     * Stream key of this service
+     */
+    private String streamKey() {
+        return "hermes:stream:" + getHermesService().serviceName();
+    }
+
+    /**
+     * 本服务的消费者组
+     * Consumer group of this service
+     */
+    private String group() {
+        return getHermesService().serviceName();
+    }
+
+    /**
+     * 开始从 Stream 读取事件编号
+     * Start reading event IDs from the stream
+     *
+     * @param consumer 事件ID消费者
+     *                 Event ID consumer
+     * @since 2026-01-08
+     */
+    @Override
+    protected void listen2MQ(Consumer<String> consumer) {
+        this.consumer = consumer;
+        createGroup();
+
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options = StreamMessageListenerContainerOptions.builder()
+                .batchSize(Math.max(1, this.property.getBatchSize()))
+                .pollTimeout(Duration.ofMillis(this.property.getPollTimeoutMillis()))
+                .build();
+        this.container = StreamMessageListenerContainer.create(this.redisConnectionFactory, options);
+
+        org.springframework.data.redis.connection.stream.Consumer streamConsumer =
+                org.springframework.data.redis.connection.stream.Consumer.from(group(), getHermesService().instanceId());
+        // 读取出错（如断线重连）时不取消订阅，消费者组丢失时重新创建
+        StreamReadRequest<String> request = StreamReadRequest.builder(StreamOffset.create(streamKey(), ReadOffset.lastConsumed()))
+                .consumer(streamConsumer)
+                .autoAcknowledge(false)
+                .cancelOnError(e -> false)
+                .errorHandler(this::onReadError)
+                .build();
+        this.container.register(request, this);
+        this.container.start();
+
+        long claimIdle = Math.max(1000, this.property.getClaimIdleMillis());
+        getScheduler().scheduleWithFixedDelay(this::claimStuck, claimIdle, claimIdle / 2, TimeUnit.MILLISECONDS);
+        log.info("Hermes Stream {} 开始消费，消费者组：{}", streamKey(), group());
+    }
+
+    /**
+     * 收到 Stream 消息
+     * Stream message received
+     *
+     * @param message Stream 消息
+     *                Stream message
+     * @since 2026-01-08
+     */
+    @Override
+    public void onMessage(MapRecord<String, String, String> message) {
+        handle(message.getId(), message.getValue().get(FIELD));
+    }
+
+    /**
+     * 处理事件编号，成功后确认消息
+     * Handle the event ID and acknowledge the message on success
+     */
+    private void handle(RecordId recordId, @Nullable Object hermesId) {
+        String id = Objects.isNull(hermesId) ? null : String.valueOf(hermesId);
+        if (log.isDebugEnabled())
+            log.debug("Redis Stream Hermes {} Got...", id);
+        try {
+            if (StringUtils.isNotBlank(id))
+                this.consumer.accept(id);
+            this.stringRedisTemplate.opsForStream().acknowledge(streamKey(), group(), recordId);
+        } catch (Throwable e) {
+            log.warn("Hermes {} 处理失败，等待重新投递：{}", id, e.getMessage());
+        }
+    }
+
+    /**
+     * 认领长时间未确认的消息并重新投递
+     * Claim messages left unacknowledged too long and redeliver them
+     */
+    private void claimStuck() {
+        try {
+            String key = streamKey();
+            String group = group();
+            Duration minIdle = Duration.ofMillis(this.property.getClaimIdleMillis());
+            PendingMessages pending = this.stringRedisTemplate.opsForStream()
+                    .pending(key, group, Range.unbounded(), Math.max(1, this.property.getBatchSize()));
+
+            List<RecordId> stuck = new ArrayList<>();
+            List<RecordId> dead = new ArrayList<>();
+            for (PendingMessage message : pending) {
+                if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0)
+                    continue;
+                if (message.getTotalDeliveryCount() >= this.property.getMaxDeliveries())
+                    dead.add(message.getId());
+                else
+                    stuck.add(message.getId());
+            }
+
+            if (!dead.isEmpty()) {
+                log.warn("Hermes Stream {} 消息超过最大投递次数，交由补偿消费：{}", key, dead);
+                this.stringRedisTemplate.opsForStream().acknowledge(key, group, dead.toArray(RecordId[]::new));
+            }
+
+            if (stuck.isEmpty())
+                return;
+
+            List<MapRecord<String, Object, Object>> claimed = this.stringRedisTemplate.opsForStream()
+                    .claim(key, group, getHermesService().instanceId(), minIdle, stuck.toArray(RecordId[]::new));
+            if (log.isDebugEnabled())
+                log.debug("Hermes Stream {} 认领消息：{}", key, claimed.size());
+            for (MapRecord<String, Object, Object> record : claimed) {
+                handle(record.getId(), record.getValue().get(FIELD));
+            }
+        } catch (Throwable e) {
+            log.warn("Hermes Stream 认领消息失败：{}", e.getMessage());
+        }
+    }
+
+    /**
+     * 读取出错，消费者组丢失（如 Redis 重启）时重新创建并立即补偿消费
+     * Read failed, recreate the consumer group and compensate immediately if it is gone (e.g. Redis restarted)
+     */
+    private void onReadError(Throwable e) {
+        log.warn("Hermes Stream {} 读取失败：{}", streamKey(), e.getMessage());
+        if (!StringUtils.contains(e.getMessage(), "NOGROUP"))
+            return;
+        // Stream 已丢失（如 Redis 重启），重建消费者组并立即补偿消费丢失的通知
+        createGroup();
+        wakeUpReConsumption();
+    }
+
+    /**
+     * 创建消费者组，Stream 不存在时一并创建，消费者组已存在时忽略
+     * Create the consumer group together with the stream if missing, ignored if the group already exists
+     */
+    private void createGroup() {
+        try {
+            this.stringRedisTemplate.opsForStream().createGroup(streamKey(), ReadOffset.from("0"), group());
+        } catch (Throwable e) {
+            if (log.isDebugEnabled())
+                log.debug("Hermes Stream {} 消费者组 {} 已存在：{}", streamKey(), group(), e.getMessage());
+        }
+    }
+
+    /**
+     * 停止期限取自消费配置
+     * The stop deadline comes from the consume configuration
+     *
+     * @return 停止期限
+     * Stop deadline
+     * @since 2026-01-08
+     */
+    @Override
+    protected Duration shutdownTimeout() {
+        return Duration.ofMillis(Math.max(0, this.consumeProperty.getShutdownTimeoutMillis()));
+    }
+
+    /**
+     * Stream 传输下的数据库补偿消费只作为兜底，空闲时的最大间隔更长
+     * With the stream transport the database compensation is only a safety net, so its maximum idle interval is longer
+     *
+     * @return 最大间隔
+     * Maximum interval
+     * @since 2026-01-08
+     */
+    @Override
+    protected Duration reConsumptionMaxInterval() {
+        return Duration.ofMinutes(Math.max(1, this.property.getReConsumptionMinutes()));
+    }
+
+    /**
+     * 停止读取 Stream
+     * Stop reading the stream
+     *
+     * @since 2026-01-08
+     */
+    @Override
+    protected void gracefullyShutdownMQListener() {
+        if (Objects.nonNull(this.container))
+            this.container.stop();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.listener;
+
+import com.asialjim.microapplet.hermes.infrastructure.repository.service.SubscriberMapperService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 订阅路由表变更监听器
+ * Subscriber routing table change listener
+ * <p>
+ * 应用启动完成后加载订阅路由表，并监听 {@link SubscriberMapperService#ROUTES_CHANNEL} 频道，
+ * 任一实例注册或下线订阅时使本实例的路由表失效，生产者解析发送目标时无需访问 Redis 或数据库
+ * <p>
+ * Loads the subscriber routing table once the application is ready and listens to the
+ * {@link SubscriberMapperService#ROUTES_CHANNEL} channel, the local table is invalidated whenever any instance
+ * registers or unregisters subscriptions, so producers resolve targets without touching Redis or the database
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Slf4j
+@Component
+public class RedisSubscriberRoutesListener implements MessageListener {
+    private final SubscriberMapperService subscriberMapperService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    public RedisSubscriberRoutesListener(SubscriberMapperService subscriberMapperService,
+                                         RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.subscriberMapperService = subscriberMapperService;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    /**
+     * 订阅路由表变更频道
+     * Subscribe to the routing table change channel
+     *
+     * @since 2026-01-08
+     */
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(SubscriberMapperService.ROUTES_CHANNEL));
+    }
+
+    /**
+     * 应用启动完成后加载订阅路由表
+     * Load the subscriber routing table once the application is ready
+     *
+     * @since 2026-01-08
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRoutes() {
+        try {
+            this.subscriberMapperService.loadRoutes();
+        } catch (Throwable e) {
+            log.warn("加载订阅路由表失败，将在首次发布事件时重试：{}", e.getMessage());
+        }
+    }
+
+    /**
+     * 收到订阅关系变更通知，使本地路由表失效
+     * Subscription change notification received, invalidate the local routing table
+     *
+     * @param message 接收到的消息
+     *                Received message
+     * @param pattern 消息所属的频道
+     *                Channel the message belongs to
+     * @since 2026-01-08
+     */
+    @Override
+    public void onMessage(@SuppressWarnings("NullableProblems") Message message, byte[] pattern) {
+        //noinspection ConstantValue
+        if (log.isDebugEnabled() && Objects.nonNull(message))
+            log.info("订阅路由表变更：{}", new String(message.getBody(), StandardCharsets.UTF_8));
+        this.subscriberMapperService.invalidateRoutes();
+    }
+}
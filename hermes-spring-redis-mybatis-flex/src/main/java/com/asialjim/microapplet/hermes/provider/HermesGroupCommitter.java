@@ -0,0 +1,252 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.asialjim.microapplet.hermes.provider;
+
+import com.asialjim.microapplet.hermes.event.Hermes;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Hermes 组提交写入器
+ * Hermes group commit writer
+ * <pre>
+ *     并发生产者提交的事件进入有界队列，由一个写入线程取出第一个事件后，在时间窗口内继续收集，
+ *     直到达到最大数量，然后一次性批量写入并唤醒全部等待的生产者；批量写入失败时逐个退回单条写入，
+ *     避免一个异常事件拖累同批次的其他事件
+ *     Events submitted by concurrent producers enter a bounded queue, the writer thread takes the first one
+ *     and keeps gathering within the time window until the size limit, then writes them in one batch and
+ *     releases all waiting producers; if the batch write fails each event falls back to a single write,
+ *     so one bad event does not fail the rest of the batch
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Slf4j
+final class HermesGroupCommitter implements AutoCloseable {
+    private final BlockingQueue<Pending> queue;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Consumer<List<Hermes<?>>> writer;
+    private final Consumer<List<Hermes<?>>> publisher;
+    private final Consumer<Hermes<?>> fallback;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * 构造函数
+     * Constructor
+     *
+     * @param maxBatchSize  单次组提交的最大事件数
+     *                      Maximum number of events per group commit
+     * @param maxWaitMillis 等待更多事件的最长时间（毫秒）
+     *                      Maximum time in milliseconds to wait for more events
+     * @param queueCapacity 等待队列容量
+     *                      Capacity of the pending queue
+     * @param writer        在一个事务内批量写入事件
+     *                      Writes a batch of events in one transaction
+     * @param publisher     事务提交后批量发布通知
+     *                      Publishes notifications after the transaction commits
+     * @param fallback      单条发送，批量写入失败时使用
+     *                      Single event sending, used when the batch write fails
+     * @since 2026-01-08
+     */
+    HermesGroupCommitter(int maxBatchSize,
+                         long maxWaitMillis,
+                         int queueCapacity,
+                         Consumer<List<Hermes<?>>> writer,
+                         Consumer<List<Hermes<?>>> publisher,
+                         Consumer<Hermes<?>> fallback) {
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMillis));
+        this.queue = new LinkedBlockingQueue<>(Math.max(this.maxBatchSize, queueCapacity));
+        this.writer = writer;
+        this.publisher = publisher;
+        this.fallback = fallback;
+        this.thread = Thread.ofPlatform()
+                .name("hermes-group-commit")
+                .daemon(true)
+                .start(this::run);
+    }
+
+    /**
+     * 提交事件并等待其写入完成
+     * Submit an event and wait until it is written
+     *
+     * @param hermes 事件对象
+     *               Event object
+     * @since 2026-01-08
+     */
+    void commit(Hermes<?> hermes) {
+        if (!this.running) {
+            this.fallback.accept(hermes);
+            return;
+        }
+
+        Pending pending = new Pending(hermes, new CompletableFuture<>());
+        try {
+            this.queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while submitting hermes " + hermes.getType(), e);
+        }
+
+        // 写入器已关闭，若事件仍在队列中，由当前线程自行写入
+        if (!this.running && this.queue.remove(pending)) {
+            this.fallback.accept(hermes);
+            return;
+        }
+
+        try {
+            pending.future().join();
+        } catch (CompletionException e) {
+            Throwable cause = Objects.requireNonNullElse(e.getCause(), e);
+            if (cause instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            if (cause instanceof Error error)
+                throw error;
+            throw e;
+        }
+    }
+
+    /**
+     * 写入线程主循环
+     * Main loop of the writer thread
+     */
+    private void run() {
+        List<Pending> batch = new ArrayList<>(this.maxBatchSize);
+        while (this.running) {
+            try {
+                Pending first = this.queue.poll(100, TimeUnit.MILLISECONDS);
+                if (Objects.isNull(first))
+                    continue;
+                batch.add(first);
+                gather(batch);
+            } catch (InterruptedException e) {
+                // 写入线程只随 close 退出，中断时写入已收集的事件后继续
+                if (log.isDebugEnabled())
+                    log.debug("Hermes group commit writer interrupted, {} events gathered", batch.size());
+            }
+
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * 在时间窗口内继续收集事件，直到达到最大数量
+     * Keep gathering events within the time window until the size limit
+     */
+    private void gather(List<Pending> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + this.maxWaitNanos;
+        while (batch.size() < this.maxBatchSize) {
+            if (this.queue.drainTo(batch, this.maxBatchSize - batch.size()) > 0)
+                continue;
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                return;
+
+            Pending next = this.queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (Objects.isNull(next))
+                return;
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 批量写入并唤醒等待的生产者
+     * Write the batch and release the waiting producers
+     */
+    private void flush(List<Pending> batch) {
+        if (batch.isEmpty())
+            return;
+
+        List<Hermes<?>> events = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            events.add(pending.hermes());
+        }
+
+        try {
+            this.writer.accept(events);
+        } catch (Throwable e) {
+            log.warn("Hermes group commit of {} events failed, fallback to single write: {}", events.size(), e.getMessage());
+            for (Pending pending : batch) {
+                try {
+                    this.fallback.accept(pending.hermes());
+                    pending.future().complete(null);
+                } catch (Throwable ex) {
+                    pending.future().completeExceptionally(ex);
+                }
+            }
+            return;
+        }
+
+        // 事件已提交，通知发布失败时由补偿消费兜底
+        try {
+            this.publisher.accept(events);
+        } catch (Throwable e) {
+            log.warn("Hermes group commit publish of {} events failed: {}", events.size(), e.getMessage());
+        }
+
+        for (Pending pending : batch) {
+            pending.future().complete(null);
+        }
+        if (log.isDebugEnabled())
+            log.debug("Hermes group commit {} events", events.size());
+    }
+
+    /**
+     * 停止写入线程，并写入队列中剩余的事件
+     * Stop the writer thread and write the events left in the queue
+     *
+     * @since 2026-01-08
+     */
+    @Override
+    public void close() {
+        this.running = false;
+        try {
+            this.thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Pending> rest = new ArrayList<>();
+        while (this.queue.drainTo(rest, this.maxBatchSize) > 0) {
+            flush(rest);
+            rest.clear();
+        }
+    }
+
+    /**
+     * 等待写入的事件
+     * Event waiting to be written
+     *
+     * @param hermes 事件对象
+     *               Event object
+     * @param future 写入完成通知
+     *               Completion of the write
+     */
+    private record Pending(Hermes<?> hermes, CompletableFuture<Void> future) {
+    }
+}
@@ -16,29 +16,47 @@
 
 package com.asialjim.microapplet.hermes.provider;
 
+import com.asialjim.microapplet.hermes.ConsumptionStatus;
 import com.asialjim.microapplet.hermes.HermesService;
 import com.asialjim.microapplet.hermes.event.EventBus;
 import com.asialjim.microapplet.hermes.event.Hermes;
-import com.asialjim.microapplet.hermes.infrastructure.repository.po.ConsumptionCount;
+import com.asialjim.microapplet.hermes.infrastructure.config.commit.HermesGroupCommitProperty;
+import com.asialjim.microapplet.hermes.infrastructure.config.consume.HermesConsumeProperty;
+import com.asialjim.microapplet.hermes.infrastructure.config.id.HermesNodeIdLease;
+import com.asialjim.microapplet.hermes.infrastructure.config.notify.HermesNotifyProperty;
+import com.asialjim.microapplet.hermes.infrastructure.config.status.HermesStatusWriterProperty;
+import com.asialjim.microapplet.hermes.infrastructure.config.stream.HermesStreamProperty;
+import com.asialjim.microapplet.hermes.infrastructure.repository.po.ConsumptionDetailPO;
 import com.asialjim.microapplet.hermes.infrastructure.repository.po.EventPO;
+import com.asialjim.microapplet.hermes.infrastructure.repository.service.ConsumptionDetailMapperService;
 import com.asialjim.microapplet.hermes.infrastructure.repository.service.ConsumptionMapperService;
 import com.asialjim.microapplet.hermes.infrastructure.repository.service.EventMapperService;
 import com.asialjim.microapplet.hermes.infrastructure.repository.service.SubscriberMapperService;
+import com.asialjim.microapplet.hermes.listener.RedisStreamHermesConsumer;
+import com.asialjim.util.jackson.Json;
+import jakarta.annotation.PreDestroy;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.aop.framework.AopContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.CollectionUtils;
 
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
+import java.util.function.BiFunction;
 
 /**
  * Hermes事件仓库实现类
@@ -83,6 +101,12 @@ public class HermesRepositoryImpl implements HermesRepository {
     @Resource
     private ConsumptionMapperService consumptionMapperService;
 
+    /**
+     * 监听器处理结果服务
+     */
+    @Resource
+    private ConsumptionDetailMapperService consumptionDetailMapperService;
+
     /**
      * 事件服务
      */
@@ -97,6 +121,63 @@ public class HermesRepositoryImpl implements HermesRepository {
     @Resource
     private HermesService hermesService;
 
+    /**
+     * 雪花算法节点编号租约，配置了节点编号或自定义编号生成器时不存在
+     */
+    @Resource
+    private ObjectProvider<HermesNodeIdLease> hermesNodeIdLease;
+
+    /**
+     * 组提交配置
+     */
+    @Resource
+    private HermesGroupCommitProperty groupCommitProperty;
+
+    /**
+     * Redis Stream 传输配置
+     */
+    @Resource
+    private HermesStreamProperty streamProperty;
+
+    /**
+     * 事件通知配置
+     */
+    @Resource
+    private HermesNotifyProperty notifyProperty;
+
+    /**
+     * 消费配置
+     */
+    @Resource
+    private HermesConsumeProperty consumeProperty;
+
+    /**
+     * 消费状态写入配置
+     */
+    @Resource
+    private HermesStatusWriterProperty statusWriterProperty;
+
+    /**
+     * 组提交写入器，首次发送时创建
+     */
+    private volatile HermesGroupCommitter groupCommitter;
+
+    /**
+     * 消费状态写入器，首次写入状态时创建
+     */
+    private volatile HermesStatusWriter statusWriter;
+
+    /**
+     * 重新投递的事件中已成功处理的监听器：事件ID:服务名称 -> 监听器名称，认领时加载，记录消费结果时移除；
+     * 结果未被记录的事件在续约时随处理中事件一并清理
+     */
+    private final ConcurrentMap<String, Set<String>> redelivered = new ConcurrentHashMap<>();
+
+    /**
+     * 当前实例仍在处理的事件：事件ID -> 认领时间（纳秒），认领时加入，记录消费结果时移除，心跳只续约其中的租约
+     */
+    private final ConcurrentMap<String, Long> held = new ConcurrentHashMap<>();
+
     // hermes 心跳保持 lua 脚本
     private static final String luaScript = """
                 local hash_key = KEYS[1]
@@ -131,9 +212,10 @@ public class HermesRepositoryImpl implements HermesRepository {
      * 标记事件正在被处理
      * Mark event as being processed
      * <p>
-     * 同时更新消费记录和事件记录的状态为处理中
+     * 开启消费状态异步写入时交给写入器合并，否则同时更新消费记录和事件记录的状态为处理中
      * <p>
-     * Update the status of both consumption record and event record to processing
+     * Handed to the status writer to be merged when asynchronous status writing is enabled,
+     * otherwise update the status of both consumption record and event record to processing
      *
      * @param eventId     事件ID
      *                    Event ID
@@ -142,8 +224,25 @@ public class HermesRepositoryImpl implements HermesRepository {
      * @since 2026-01-08
      */
     @Override
-    @Transactional
     public void processingEvent(String eventId, String application) {
+        if (submitStatus(HermesStatusWriter.Transition.processing(eventId, application)))
+            return;
+        HermesRepositoryImpl hermesRepository = (HermesRepositoryImpl) AopContext.currentProxy();
+        hermesRepository.doProcessingEvent(eventId, application);
+    }
+
+    /**
+     * 在同一事务内更新消费记录和事件记录的状态为处理中
+     * Update the status of both consumption record and event record to processing in one transaction
+     *
+     * @param eventId     事件ID
+     *                    Event ID
+     * @param application 应用服务名称
+     *                    Application service name
+     * @since 2026-01-08
+     */
+    @Transactional
+    public void doProcessingEvent(String eventId, String application) {
         this.consumptionMapperService.processingEvent(eventId, application);
         this.eventMapperService.processingEvent(eventId, application);
     }
@@ -166,7 +265,128 @@ public class HermesRepositoryImpl implements HermesRepository {
      */
     @Override
     public void errorEvent(String eventId, String application, String err) {
-        this.consumptionMapperService.errorEvent(eventId, application, err);
+        if (submitStatus(HermesStatusWriter.Transition.failed(eventId, application, "500", err)))
+            return;
+        HermesRepositoryImpl hermesRepository = (HermesRepositoryImpl) AopContext.currentProxy();
+        hermesRepository.settle(eventId, application, "500", err);
+    }
+
+    /**
+     * 记录监听器处理事件失败
+     * Record the failure of a listener processing the event
+     * <p>
+     * 消费记录按失败处理，同时记录该监听器的失败结果
+     * <p>
+     * The consumption record is handled as failed, and the failed outcome of the listener is recorded as well
+     *
+     * @param eventId     事件ID
+     *                    Event ID
+     * @param application 应用服务名称
+     *                    Application service name
+     * @param listener    监听器名称
+     *                    Listener name
+     * @param err         错误信息
+     *                    Error information
+     * @since 2026-01-08
+     */
+    @Override
+    public void errorEvent(String eventId, String application, String listener, String err) {
+        errorEvent(eventId, application, err);
+        if (submitStatus(HermesStatusWriter.Transition.listenerFailed(eventId, application, listener, "500", err)))
+            return;
+        this.consumptionDetailMapperService.saveOutcomes(List.of(detail(eventId, application, listener,
+                ConsumptionStatus.FAILED, "500", err)));
+    }
+
+    /**
+     * 记录监听器处理事件成功
+     * Record the success of a listener processing the event
+     * <p>
+     * 只记录该监听器的成功结果，消费记录的成功由全部监听器执行完成后的消费结果决定；重新投递时已记录过成功的监听器不再记录
+     * <p>
+     * Only the succeeded outcome of the listener is recorded, the success of the consumption record is decided by the
+     * consumption result after all listeners ran; listeners already recorded as succeeded are skipped on redelivery
+     *
+     * @param eventId     事件ID
+     *                    Event ID
+     * @param application 应用服务名称
+     *                    Application service name
+     * @param listener    监听器名称
+     *                    Listener name
+     * @since 2026-01-08
+     */
+    @Override
+    public void succeedEvent(String eventId, String application, String listener) {
+        if (consumed(eventId, application, listener))
+            return;
+        if (submitStatus(HermesStatusWriter.Transition.listenerSucceeded(eventId, application, listener)))
+            return;
+        this.consumptionDetailMapperService.saveOutcomes(List.of(detail(eventId, application, listener,
+                ConsumptionStatus.SUCCEEDED, "0", null)));
+    }
+
+    /**
+     * 批量记录监听器处理一批事件成功
+     * Record the success of a listener processing a batch of events
+     * <p>
+     * 开启消费状态异步写入时逐条交给写入器合并，否则一次批量保存全部处理结果
+     * <p>
+     * Handed to the status writer one by one when asynchronous status writing is enabled, otherwise all outcomes are
+     * saved in one batch
+     *
+     * @param eventIds    事件ID集合
+     *                    Event IDs
+     * @param application 应用服务名称
+     *                    Application service name
+     * @param listener    监听器名称
+     *                    Listener name
+     * @since 2026-01-08
+     */
+    @Override
+    public void succeedEvents(Collection<String> eventIds, String application, String listener) {
+        List<ConsumptionDetailPO> details = new ArrayList<>(eventIds.size());
+        for (String eventId : eventIds) {
+            if (consumed(eventId, application, listener))
+                continue;
+            if (!submitStatus(HermesStatusWriter.Transition.listenerSucceeded(eventId, application, listener)))
+                details.add(detail(eventId, application, listener, ConsumptionStatus.SUCCEEDED, "0", null));
+        }
+        this.consumptionDetailMapperService.saveOutcomes(details);
+    }
+
+    /**
+     * 判断监听器是否已成功处理过重新投递的事件
+     * Determine whether the listener already processed the redelivered event successfully
+     *
+     * @param eventId     事件ID
+     *                    Event ID
+     * @param application 应用服务名称
+     *                    Application service name
+     * @param listener    监听器名称
+     *                    Listener name
+     * @return 是否已成功处理
+     * Whether it is processed successfully
+     * @since 2026-01-08
+     */
+    @Override
+    public boolean consumed(String eventId, String application, String listener) {
+        Set<String> listeners = this.redelivered.get(eventId + ":" + application);
+        return Objects.nonNull(listeners) && listeners.contains(listener);
+    }
+
+    /**
+     * 构建监听器处理结果记录
+     * Build a listener outcome record
+     */
+    private static ConsumptionDetailPO detail(String eventId, String application, String listener,
+                                              ConsumptionStatus status, String code, String description) {
+        return new ConsumptionDetailPO()
+                .setEventId(eventId)
+                .setSubscriber(application)
+                .setListener(listener)
+                .setStatus(status)
+                .setCode(code)
+                .setDescription(description);
     }
 
     /**
@@ -185,8 +405,74 @@ public class HermesRepositoryImpl implements HermesRepository {
      */
     @Override
     public void succeedEvent(String eventId, String application) {
-        ConsumptionCount consumptionCount = this.consumptionMapperService.succeedEvent(eventId, application);
-        this.eventMapperService.succeedEvent(eventId, consumptionCount);
+        if (submitStatus(HermesStatusWriter.Transition.succeeded(eventId, application, "SUCCESS")))
+            return;
+        HermesRepositoryImpl hermesRepository = (HermesRepositoryImpl) AopContext.currentProxy();
+        hermesRepository.settle(eventId, application, "0", "SUCCESS");
+    }
+
+    /**
+     * 在同一事务内记录消费结果并累加事件计数
+     * Record the consumption result and increment the event counter in one transaction
+     * <p>
+     * 消费记录进入终结状态与事件计数的累加一同提交，二者之间崩溃不会导致计数偏差
+     * <p>
+     * The consumption record entering a settled state is committed together with the counter increment, a crash in
+     * between cannot make the counters drift
+     *
+     * @param eventId     事件ID
+     *                    Event ID
+     * @param application 应用服务名称
+     *                    Application service name
+     * @param code        结果码，"0" 表示成功
+     *                    Result code, "0" means success
+     * @param err         结果描述
+     *                    Result description
+     * @return 消费记录进入的状态，记录未被更新时返回null
+     * State the consumption record entered, null if the record was not updated
+     * @since 2026-01-08
+     */
+    @Transactional
+    public ConsumptionStatus settle(String eventId, String application, String code, String err) {
+        ConsumptionStatus status = this.consumptionMapperService.log(eventId, application, code, err);
+        counted(eventId, status);
+        return status;
+    }
+
+    /**
+     * 在同一事务内将一批消费记录更新为成功并累加事件的成功服务数
+     * Mark a batch of consumption records as succeeded and increment the succeeded service number of the events in one transaction
+     *
+     * @param eventIds    事件ID集合
+     *                    Event IDs
+     * @param application 应用服务名称
+     *                    Application service name
+     * @param description 结果描述
+     *                    Result description
+     * @since 2026-01-08
+     */
+    @Transactional
+    public void settleSucceeded(Collection<String> eventIds, String application, String description) {
+        List<String> settled = this.consumptionMapperService.succeededBatch(eventIds, application, description);
+        if (!settled.isEmpty())
+            this.eventMapperService.increaseSucceeded(settled, 1);
+    }
+
+    /**
+     * 按消费记录进入的终结状态累加事件计数
+     * Increment the event counter by the settled state the consumption record entered
+     *
+     * @param eventId 事件ID
+     *                Event ID
+     * @param status  消费记录进入的状态
+     *                State the consumption record entered
+     * @since 2026-01-08
+     */
+    private void counted(String eventId, ConsumptionStatus status) {
+        if (status == ConsumptionStatus.SUCCEEDED)
+            this.eventMapperService.increaseSucceeded(List.of(eventId), 1);
+        else if (status == ConsumptionStatus.DEAD)
+            this.eventMapperService.increaseFailed(List.of(eventId), 1);
     }
 
     @Override
@@ -202,7 +488,7 @@ public class HermesRepositoryImpl implements HermesRepository {
         long expireAt = now + TimeUnit.MINUTES.toMillis(2);
 
         // 为每一个服务在redis创建一个hash, key 为实例编号， value 为该实例要存活到多久
-        String allInstance = "tmp:hermes:service:ping-pong:" + name;
+        String allInstance = pingPongKey(name);
 
         // 使用 Lua 脚本优化 Redis IO 操作，减少网络往返次数
 
@@ -216,6 +502,13 @@ public class HermesRepositoryImpl implements HermesRepository {
                 args.toArray()
         );
 
+        // 续期节点编号租约
+        this.hermesNodeIdLease.ifAvailable(HermesNodeIdLease::renew);
+
+        // 只续约当前实例仍在处理的事件的租约，重新入队租约已过期的处理中记录
+        this.consumptionMapperService.renewLeases(instanceId, heldEvents());
+        this.consumptionMapperService.requeueExpiredLeases(Math.max(1, this.consumeProperty.getReConsumptionBatchSize()));
+
         //noinspection ConstantValue
         if (Objects.isNull(expiredInstanceSet))
             return;
@@ -230,6 +523,92 @@ public class HermesRepositoryImpl implements HermesRepository {
                 .toList();
 
         this.subscriberMapperService.unRegisterInstance(list);
+        // 已下线实例的处理中记录无需等待租约过期
+        this.consumptionMapperService.requeueLeasesOf(list);
+    }
+
+    /**
+     * 释放停止中的服务实例持有的处理中记录
+     * Release the processing records held by the service instance being stopped
+     * <p>
+     * 先写入状态写入器中尚未写入的消费状态，再将仍在处理中的记录重新入队，并向本服务重新发送这些事件的通知，
+     * 同服务的其他实例无需等待租约过期或补偿消费即可接手；最后从心跳与订阅中移除该实例
+     * <p>
+     * First writes the consumption states still pending in the status writer, then requeues the records still in
+     * processing and notifies this service of those events again, so other instances of the service take over without
+     * waiting for the lease to expire or for compensation consumption; finally removes the instance from the heartbeat
+     * and the subscriptions
+     *
+     * @param hermesService 停止中的服务实例
+     *                      Service instance being stopped
+     * @since 2026-01-08
+     */
+    @Override
+    public void release(HermesService hermesService) {
+        String name = hermesService.serviceName();
+        String instanceId = hermesService.instanceId();
+
+        HermesStatusWriter writer = this.statusWriter;
+        if (Objects.nonNull(writer))
+            writer.close();
+
+        List<String> eventIds = this.consumptionMapperService.releaseLeases(instanceId);
+        if (!eventIds.isEmpty()) {
+            List<Hermes<?>> released = new ArrayList<>(eventIds.size());
+            for (EventPO po : this.eventMapperService.listByIds(eventIds)) {
+                Hermes<?> hermes = EventPO.to(po);
+                hermes.setSendTo(Set.of(name));
+                released.add(hermes);
+            }
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) link -> {
+                for (Hermes<?> hermes : released) {
+                    notify(link, hermes);
+                }
+                return null;
+            });
+        }
+
+        stringRedisTemplate.opsForHash().delete(pingPongKey(name), instanceId);
+        this.subscriberMapperService.unRegisterInstance(List.of(instanceId));
+        log.info("Hermes 实例 {} 已释放 {} 条处理中记录", instanceId, eventIds.size());
+    }
+
+    /**
+     * 获取需要续约租约的事件
+     * Get the events whose lease needs renewing
+     * <p>
+     * 认领后超过最长续约时间仍未记录结果的事件视为卡住（监听器挂起、状态写入丢失等），移出集合不再续约，租约过期后重新入队
+     * <p>
+     * Events without a recorded result longer than the max renew time after being claimed are considered stuck (a hung
+     * listener, a lost status write, ...), they are removed and no longer renewed, so they are requeued once their
+     * lease expires
+     *
+     * @return 仍在处理的事件ID
+     * Event IDs still being processed
+     * @since 2026-01-08
+     */
+    private List<String> heldEvents() {
+        long deadline = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(this.consumeProperty.getMaxLeaseRenewMillis());
+        List<String> res = new ArrayList<>(this.held.size());
+        for (Map.Entry<String, Long> entry : this.held.entrySet()) {
+            if (entry.getValue() - deadline >= 0) {
+                res.add(entry.getKey());
+            } else if (this.held.remove(entry.getKey(), entry.getValue())) {
+                log.warn("Hermes 事件 {} 处理超过 {} 毫秒仍未完成，不再续约处理租约", entry.getKey(),
+                        this.consumeProperty.getMaxLeaseRenewMillis());
+            }
+        }
+        // 重新投递的监听器记录随事件一起释放，结果未被记录的事件不再持有后一并移除
+        this.redelivered.keySet().removeIf(key -> !this.held.containsKey(StringUtils.substringBeforeLast(key, ":")));
+        return res;
+    }
+
+    /**
+     * 服务实例心跳哈希的键，哈希的键为实例编号，值为该实例要存活到的时间
+     * Key of the service instance heartbeat hash, whose fields are instance IDs and values the time they live until
+     */
+    private static String pingPongKey(String serviceName) {
+        return "tmp:hermes:service:ping-pong:" + serviceName;
     }
 
     /**
@@ -292,28 +671,150 @@ public class HermesRepositoryImpl implements HermesRepository {
     @Override
     @Transactional
     public Hermes<?> pop(String serviceName) {
-        String eventId = this.consumptionMapperService.pop(serviceName);
-        if (StringUtils.isBlank(eventId))
-            return null;
+        List<Hermes<?>> batch = popBatch(serviceName, 1);
+        return batch.isEmpty() ? null : batch.getFirst();
+    }
+
+    /**
+     * 为指定服务弹出一批待处理的事件
+     * Pop a batch of pending events for the specified service
+     * <p>
+     * 按创建时间顺序锁定最多指定数量的待处理记录（跳过其他实例已锁定的记录），一次更新为处理中，
+     * 再通过一条 IN 查询加载全部事件
+     * <p>
+     * Lock up to the given number of pending records in creation order (skipping records locked by other instances),
+     * move them to processing with one update, then load all events with one IN query
+     *
+     * @param serviceName 服务名称
+     *                    Service name
+     * @param limit       最大数量
+     *                    Maximum number
+     * @return 事件列表，若没有待处理事件则返回空列表
+     * Event list, empty if there are no pending events
+     * @since 2026-01-08
+     */
+    @Transactional
+    public List<Hermes<?>> popBatch(String serviceName, int limit) {
+        List<String> eventIds = this.consumptionMapperService.popBatch(serviceName, limit);
+        return popped(serviceName, eventIds);
+    }
+
+    /**
+     * 为指定服务弹出一批到期的重试事件
+     * Pop a batch of due retry events for the specified service
+     * <p>
+     * 按下次执行时间顺序锁定最多指定数量已到期的重试记录（跳过其他实例已锁定的记录），一次更新为处理中后加载事件
+     * <p>
+     * Lock up to the given number of due retrying records in next execution time order (skipping records locked by
+     * other instances), move them to processing with one update, then load the events
+     *
+     * @param serviceName 服务名称
+     *                    Service name
+     * @param limit       最大数量
+     *                    Maximum number
+     * @return 事件列表，若没有到期的重试事件则返回空列表
+     * Event list, empty if there are no due retry events
+     * @since 2026-01-08
+     */
+    @Transactional
+    public List<Hermes<?>> popRetryBatch(String serviceName, int limit) {
+        List<String> eventIds = this.consumptionMapperService.popRetryBatch(serviceName, limit);
+        return popped(serviceName, eventIds);
+    }
+
+    /**
+     * 将已锁定的消费记录更新为处理中，并通过一条 IN 查询加载事件
+     * Move the locked consumption records to processing and load the events with one IN query
+     *
+     * @param serviceName 服务名称
+     *                    Service name
+     * @param eventIds    已锁定的事件编号
+     *                    Locked event IDs
+     * @return 事件列表
+     * Event list
+     * @since 2026-01-08
+     */
+    private List<Hermes<?>> popped(String serviceName, List<String> eventIds) {
+        if (CollectionUtils.isEmpty(eventIds))
+            return Collections.emptyList();
         if (log.isDebugEnabled())
-            log.info("补偿消费事件编号：{}", eventId);
-        EventPO hermesPO = this.eventMapperService.queryById(eventId);
-        if (Objects.isNull(hermesPO) || StringUtils.equals("-", hermesPO.getData()))
-            return null;
-        Hermes<?> hermes = EventPO.to(hermesPO);
+            log.debug("补偿消费事件编号：{}", eventIds);
+        this.consumptionMapperService.poppedBatch(eventIds, serviceName);
+        claimed(eventIds, serviceName);
+
+        Map<String, EventPO> pos = new HashMap<>();
+        for (EventPO po : this.eventMapperService.listByIds(eventIds)) {
+            pos.put(po.getId(), po);
+        }
+
+        List<Hermes<?>> res = new ArrayList<>(eventIds.size());
+        List<String> missing = new ArrayList<>();
+        for (String eventId : eventIds) {
+            EventPO hermesPO = pos.get(eventId);
+            if (Objects.isNull(hermesPO) || StringUtils.equals("-", hermesPO.getData())) {
+                missing.add(eventId);
+                continue;
+            }
+            res.add(EventPO.to(hermesPO));
+        }
+        // 事件已丢失或内容已清除的记录无法再分发，在同一事务内转为死信，避免租约过期后被反复获取
+        dead(missing, serviceName);
         if (log.isDebugEnabled())
-            log.info("Pop {} result: {}", serviceName, hermes);
-        this.consumptionMapperService.popped(eventId, serviceName);
-        return hermes;
+            log.debug("Pop {} result: {}", serviceName, res);
+        return res;
+    }
+
+    /**
+     * 在同一事务内将事件已丢失或内容已清除的消费记录转为死信并累加事件的失败服务数，同时不再持有这些事件
+     * Move consumption records whose event is missing or purged to dead and increment the failed service number of
+     * the events in one transaction, these events are no longer held
+     *
+     * @param eventIds    事件已丢失的事件编号
+     *                    IDs of the events that are missing
+     * @param serviceName 服务名称
+     *                    Service name
+     * @since 2026-01-08
+     */
+    @Transactional
+    public void dead(Collection<String> eventIds, String serviceName) {
+        if (CollectionUtils.isEmpty(eventIds))
+            return;
+        for (String eventId : eventIds) {
+            this.redelivered.remove(eventId + ":" + serviceName);
+            this.held.remove(eventId);
+        }
+        this.consumptionMapperService.deadBatch(eventIds, serviceName, "Event data missing");
+        this.eventMapperService.increaseFailed(eventIds, 1);
+        log.warn("服务 {} 的事件数据已丢失，转为死信：{}", serviceName, eventIds);
+    }
+
+    /**
+     * 认领消费记录后的公共步骤：加载重新投递的事件中已成功处理的监听器，供 {@link #consumed} 跳过
+     * Common step after claiming consumption records: load the listeners that already processed the redelivered events
+     * successfully, so {@link #consumed} can skip them
+     *
+     * @param eventIds    已认领的事件编号
+     *                    Claimed event IDs
+     * @param serviceName 服务名称
+     *                    Service name
+     * @since 2026-01-08
+     */
+    private void claimed(Collection<String> eventIds, String serviceName) {
+        long now = System.nanoTime();
+        for (String eventId : eventIds) {
+            this.held.put(eventId, now);
+        }
+        this.consumptionDetailMapperService.succeededListeners(eventIds, serviceName)
+                .forEach((eventId, listeners) -> this.redelivered.put(eventId + ":" + serviceName, listeners));
     }
 
     /**
      * 根据事件ID和服务名称查询可用的事件
      * Query available event by event ID and service name
      * <p>
-     * 检查事件是否存在且未被同服务名的其他实例获取
+     * 认领该服务的消费记录，认领成功（未被同服务名的其他实例获取）后查询事件
      * <p>
-     * Check if the event exists and has not been obtained by other instances with the same service name
+     * Claim the consumption record of the service, then query the event once claimed (not obtained by other instances with the same service name)
      *
      * @param id          事件ID
      *                    Event ID
@@ -325,18 +826,58 @@ public class HermesRepositoryImpl implements HermesRepository {
      */
     @Override
     public Hermes<?> queryAvailableHermesByIdAndServiceName(String id, String serviceName) {
-        boolean available = this.consumptionMapperService.eventIdAndServiceNameAvailable(id, serviceName);
+        boolean available = this.consumptionMapperService.claim(id, serviceName);
         if (!available)
             return null;
+        claimed(List.of(id), serviceName);
         EventPO hermesPO = this.eventMapperService.queryById(id);
-        if (Objects.isNull(hermesPO) || StringUtils.equals("-", hermesPO.getData()))
+        if (Objects.isNull(hermesPO) || StringUtils.equals("-", hermesPO.getData())) {
+            // 与补偿消费一致，无法分发的记录转为死信，避免停留在处理中
+            HermesRepositoryImpl hermesRepository = (HermesRepositoryImpl) AopContext.currentProxy();
+            hermesRepository.dead(List.of(id), serviceName);
             return null;
+        }
         Hermes<?> hermes = EventPO.to(hermesPO);
         if (log.isDebugEnabled())
             log.info("Available Hermes of {} for {} result: {}", id, serviceName, hermes);
         return hermes;
     }
 
+    /**
+     * 根据中间件通知查询可用的事件
+     * Query available event by the middleware notification
+     * <p>
+     * 通知携带完整事件时只认领消费记录，直接使用通知中的事件；否则按事件编号查询
+     * <p>
+     * When the notification carries the complete event only the consumption record is claimed and the event in the
+     * notification is used directly; otherwise it is queried by the event ID
+     *
+     * @param notification 中间件通知
+     *                     Middleware notification
+     * @param serviceName  服务名称
+     *                     Service name
+     * @return 可用的事件对象，若不可用则返回null
+     * Available event object, returns null if unavailable
+     * @since 2026-01-08
+     */
+    @Override
+    public Hermes<?> queryAvailableHermes(String notification, String serviceName) {
+        if (!StringUtils.startsWith(notification, "{"))
+            return queryAvailableHermesByIdAndServiceName(notification, serviceName);
+
+        EventPO hermesPO = Json.instance.toBean(notification, EventPO.class);
+        if (Objects.isNull(hermesPO) || StringUtils.isBlank(hermesPO.getId()))
+            return null;
+        boolean available = this.consumptionMapperService.claim(hermesPO.getId(), serviceName);
+        if (!available)
+            return null;
+        claimed(List.of(hermesPO.getId()), serviceName);
+        Hermes<?> hermes = EventPO.to(hermesPO);
+        if (log.isDebugEnabled())
+            log.debug("Inline Hermes of {} for {} result: {}", hermesPO.getId(), serviceName, hermes);
+        return hermes;
+    }
+
     /**
      * 记录事件处理结果
      * Record event processing result
@@ -356,60 +897,256 @@ public class HermesRepositoryImpl implements HermesRepository {
      * @since 2026-01-08
      */
     @Override
-    @Transactional
     public void log(String id, String serviceName, String code, String err) {
-        this.consumptionMapperService.log(id, serviceName, code, err);
+        this.redelivered.remove(id + ":" + serviceName);
+        this.held.remove(id);
+        HermesStatusWriter.Transition transition = StringUtils.equals(code, "0")
+                ? HermesStatusWriter.Transition.succeeded(id, serviceName, err)
+                : HermesStatusWriter.Transition.failed(id, serviceName, code, err);
+        if (submitStatus(transition))
+            return;
+        HermesRepositoryImpl hermesRepository = (HermesRepositoryImpl) AopContext.currentProxy();
+        hermesRepository.settle(id, serviceName, code, err);
     }
 
     /**
      * 执行事件补偿消费
      * Execute event compensation consumption
      * <p>
-     * 循环获取并处理该服务的待处理事件，直到没有待处理事件为止
+     * 每次认领一批该服务的待处理事件，在虚拟线程上并行发布到事件总线，处理完成后认领下一批，直到没有待处理事件为止；
+     * 随后以同样方式处理已到期的重试事件
      * <p>
-     * Loop to get and process pending events for this service until there are no pending events
+     * Claim a batch of pending events for this service at a time and publish them to the event bus concurrently on
+     * virtual threads, claim the next batch once they are handled, until there are no pending events;
+     * due retry events are then handled the same way
      *
      * @param serviceName 服务名称
      *                    Service name
+     * @return 补偿消费的事件数量
+     * Number of events consumed
      * @since 2026-01-08
      */
     @Override
-    public void reConsumption(String serviceName) {
+    public int reConsumption(String serviceName) {
         if (log.isDebugEnabled())
             log.info("服务 {} 补偿消费Hermes......", serviceName);
         HermesRepositoryImpl hermesRepository = (HermesRepositoryImpl) AopContext.currentProxy();
-        Hermes<?> hermes;
+        int batchSize = Math.max(1, this.consumeProperty.getReConsumptionBatchSize());
+        int total = 0;
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("hermes-re-consumption-", 0).factory())) {
+            total += reConsumption(serviceName, batchSize, executor, hermesRepository::popBatch);
+            total += reConsumption(serviceName, batchSize, executor, hermesRepository::popRetryBatch);
+        }
+        log.info("服务 {} 补偿消费Hermes 结束，共 {} 个!!!!!!", serviceName, total);
+        return total;
+    }
+
+    /**
+     * 逐批认领并并行消费事件，直到某一批不足批大小为止
+     * Claim and consume events batch by batch concurrently, until a batch is smaller than the batch size
+     *
+     * @param serviceName 服务名称
+     *                    Service name
+     * @param batchSize   批大小
+     *                    Batch size
+     * @param executor    消费执行器
+     *                    Consumption executor
+     * @param popper      批量认领方法
+     *                    Batch claiming method
+     * @return 消费的事件数量
+     * Number of events consumed
+     * @since 2026-01-08
+     */
+    private int reConsumption(String serviceName, int batchSize, ExecutorService executor,
+                              BiFunction<String, Integer, List<Hermes<?>>> popper) {
+        int total = 0;
+        List<Hermes<?>> batch;
         do {
-            if (log.isDebugEnabled())
-                log.info("补偿消费...");
-            hermes = hermesRepository.doReConsumption(serviceName);
-        } while (Objects.nonNull(hermes));
-        log.info("服务 {} 补偿消费Hermes 结束!!!!!!", serviceName);
+            batch = popper.apply(serviceName, batchSize);
+            total += batch.size();
+            CompletableFuture<?>[] futures = batch.stream()
+                    .map(hermes -> CompletableFuture.runAsync(() -> EventBus.push(hermes.setGlobal(false)), executor))
+                    .toArray(CompletableFuture[]::new);
+            try {
+                CompletableFuture.allOf(futures).join();
+            } catch (CompletionException e) {
+                log.warn("服务 {} 补偿消费Hermes 失败：{}", serviceName, e.getMessage());
+            }
+        } while (batch.size() >= batchSize);
+        return total;
     }
 
     /**
-     * 执行单次补偿消费
-     * Execute single compensation consumption
+     * 发送事件
+     * Send event
      * <p>
-     * 从数据库中获取一个待处理事件，若存在则发布到事件总线
+     * 开启组提交且调用方不在事务中时，事件交给组提交写入器，与并发生产者的事件在同一事务内批量写入，
+     * 写入完成后返回；否则逐条保存、发送并发布
      * <p>
-     * Get a pending event from the database and publish it to the event bus if it exists
+     * When group commit is enabled and the caller is not in a transaction, the event is handed to the group commit
+     * writer and written in one transaction together with events of concurrent producers, returning once written;
+     * otherwise it is saved, sent and published on its own
      *
-     * @param serviceName 服务名称
-     *                    Service name
-     * @return 处理的事件对象，若没有待处理事件则返回null
-     * Processed event object, returns null if there are no pending events
+     * @param hermes 事件对象
+     *               Event object
      * @since 2026-01-08
      */
-    @Transactional
-    public Hermes<?> doReConsumption(String serviceName) {
-        Hermes<?> hermes = pop(serviceName);
-        if (log.isDebugEnabled())
-            log.info("获取到补偿消费事件：{}", hermes);
-        if (Objects.nonNull(hermes)) {
-            EventBus.push(hermes.setGlobal(false));
+    @Override
+    public void send(Hermes<?> hermes) {
+        if (!this.groupCommitProperty.isEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            sendOne(hermes);
+            return;
         }
-        return hermes;
+        groupCommitter().commit(hermes);
+    }
+
+    /**
+     * 逐条发送事件
+     * Send a single event
+     *
+     * @param hermes 事件对象
+     *               Event object
+     * @since 2026-01-08
+     */
+    private void sendOne(Hermes<?> hermes) {
+        HermesRepository.super.send(hermes);
+    }
+
+    /**
+     * 获取组提交写入器，首次调用时通过当前代理创建，保证批量写入的事务生效
+     * Get the group commit writer, created through the current proxy on first use so the batch write is transactional
+     *
+     * @return 组提交写入器
+     * Group commit writer
+     * @since 2026-01-08
+     */
+    private HermesGroupCommitter groupCommitter() {
+        HermesGroupCommitter committer = this.groupCommitter;
+        if (Objects.nonNull(committer))
+            return committer;
+
+        synchronized (this) {
+            if (Objects.isNull(this.groupCommitter)) {
+                HermesRepositoryImpl hermesRepository = (HermesRepositoryImpl) AopContext.currentProxy();
+                this.groupCommitter = new HermesGroupCommitter(
+                        this.groupCommitProperty.getMaxBatchSize(),
+                        this.groupCommitProperty.getMaxWaitMillis(),
+                        this.groupCommitProperty.getQueueCapacity(),
+                        hermesRepository::doSendBatch,
+                        this::publishBatch,
+                        this::sendOne);
+            }
+            return this.groupCommitter;
+        }
+    }
+
+    /**
+     * 提交消费状态变化到写入器
+     * Submit a consumption status transition to the status writer
+     *
+     * @param transition 状态变化
+     *                   Status transition
+     * @return 是否已被写入器接受，未开启或未接受时由调用方同步写入
+     * Whether it is accepted by the writer, the caller writes synchronously when disabled or not accepted
+     * @since 2026-01-08
+     */
+    private boolean submitStatus(HermesStatusWriter.Transition transition) {
+        if (!this.statusWriterProperty.isEnabled())
+            return false;
+        return statusWriter().submit(transition);
+    }
+
+    /**
+     * 获取消费状态写入器，首次调用时通过当前代理创建，保证结果与计数在同一事务内写入
+     * Get the consumption status writer, created through the current proxy on first use so results and counters are
+     * written in one transaction
+     *
+     * @return 消费状态写入器
+     * Consumption status writer
+     * @since 2026-01-08
+     */
+    private HermesStatusWriter statusWriter() {
+        HermesStatusWriter writer = this.statusWriter;
+        if (Objects.nonNull(writer))
+            return writer;
+
+        synchronized (this) {
+            if (Objects.isNull(this.statusWriter)) {
+                HermesRepositoryImpl hermesRepository = (HermesRepositoryImpl) AopContext.currentProxy();
+                this.statusWriter = new HermesStatusWriter(
+                        this.statusWriterProperty.getFlushIntervalMillis(),
+                        this.statusWriterProperty.getMaxRetryIntervalMillis(),
+                        this.statusWriterProperty.getMaxPending(),
+                        this.consumeProperty.getShutdownTimeoutMillis(),
+                        batch -> writeStatus(hermesRepository, batch));
+            }
+            return this.statusWriter;
+        }
+    }
+
+    /**
+     * 批量写入合并后的消费状态
+     * Write the merged consumption states in batches
+     * <p>
+     * 事件处理中状态一条语句写入；监听器处理结果批量插入；成功记录按服务与描述分组，每组在一个事务内锁定、
+     * 一条语句写入并累加事件的成功服务数；失败记录较少，逐条在事务内安排重试并累加死信计数
+     * <p>
+     * The processing state of events is written with one statement; listener outcomes are inserted in batches;
+     * succeeded records are grouped by service and description, each group is locked, written with one statement and
+     * counted into the succeeded service numbers in one transaction; failed records are rare and are scheduled for
+     * retry one by one, each counted as dead in its own transaction
+     *
+     * @param hermesRepository 当前代理，用于开启事务
+     *                         Current proxy, used to open transactions
+     * @param batch            合并后的状态变化
+     *                         Merged status transitions
+     * @since 2026-01-08
+     */
+    private void writeStatus(HermesRepositoryImpl hermesRepository, List<HermesStatusWriter.Transition> batch) {
+        Set<String> processingEvents = new HashSet<>();
+        Map<String, Set<String>> processing = new HashMap<>();
+        Map<List<String>, Set<String>> succeeded = new HashMap<>();
+        List<ConsumptionDetailPO> details = new ArrayList<>();
+        for (HermesStatusWriter.Transition transition : batch) {
+            if (Objects.nonNull(transition.listener())) {
+                ConsumptionStatus status = transition.state() == HermesStatusWriter.State.SUCCEEDED
+                        ? ConsumptionStatus.SUCCEEDED : ConsumptionStatus.FAILED;
+                details.add(detail(transition.eventId(), transition.subscriber(), transition.listener(), status,
+                        transition.code(), transition.description()));
+                continue;
+            }
+            if (transition.eventProcessing())
+                processingEvents.add(transition.eventId());
+            switch (transition.state()) {
+                case PROCESSING -> processing.computeIfAbsent(transition.subscriber(), key -> new HashSet<>())
+                        .add(transition.eventId());
+                case SUCCEEDED -> succeeded.computeIfAbsent(Arrays.asList(transition.subscriber(), transition.description()), key -> new HashSet<>())
+                        .add(transition.eventId());
+                case FAILED -> hermesRepository.settle(transition.eventId(), transition.subscriber(),
+                        transition.code(), transition.description());
+            }
+        }
+
+        this.consumptionDetailMapperService.saveOutcomes(details);
+        this.eventMapperService.processingEvents(processingEvents);
+        processing.forEach((serviceName, eventIds) -> this.consumptionMapperService.processingBatch(eventIds, serviceName));
+        succeeded.forEach((key, eventIds) -> hermesRepository.settleSucceeded(eventIds, key.get(0), key.get(1)));
+    }
+
+    /**
+     * 关闭组提交写入器与消费状态写入器，写入剩余的事件与状态
+     * Close the group commit writer and the consumption status writer, writing the remaining events and states
+     *
+     * @since 2026-01-08
+     */
+    @PreDestroy
+    public void closeWriters() {
+        HermesGroupCommitter committer = this.groupCommitter;
+        if (Objects.nonNull(committer))
+            committer.close();
+        HermesStatusWriter writer = this.statusWriter;
+        if (Objects.nonNull(writer))
+            writer.close();
     }
 
     /**
@@ -449,6 +1186,135 @@ public class HermesRepositoryImpl implements HermesRepository {
         this.consumptionMapperService.send(hermes.getId(), sendTo);
     }
 
+    /**
+     * 批量发送事件
+     * Send a batch of events
+     * <p>
+     * 事件与消费记录在同一事务内使用多行插入语句保存，事务提交后通过一个 Redis pipeline 发布全部通知
+     * <p>
+     * Events and consumption records are saved with multi-row insert statements in one transaction,
+     * all notifications are published through one Redis pipeline after the transaction commits
+     *
+     * @param batch 事件集合
+     *              Event collection
+     * @since 2026-01-08
+     */
+    @Override
+    public void sendBatch(Collection<? extends Hermes<?>> batch) {
+        if (CollectionUtils.isEmpty(batch))
+            return;
+        HermesRepositoryImpl hermesRepository = (HermesRepositoryImpl) AopContext.currentProxy();
+        hermesRepository.doSendBatch(batch);
+        publishBatch(batch);
+    }
+
+    /**
+     * 在同一事务内批量保存事件与消费记录
+     * Save events and consumption records in one transaction
+     *
+     * @param batch 事件集合
+     *              Event collection
+     * @since 2026-01-08
+     */
+    @Transactional
+    public void doSendBatch(Collection<? extends Hermes<?>> batch) {
+        List<EventPO> pos = new ArrayList<>(batch.size());
+        for (Hermes<?> hermes : batch) {
+            pos.add(EventPO.from(hermes));
+        }
+        this.eventMapperService.saveBatchCacheable(pos);
+
+        Map<String, Set<String>> sendTo = new LinkedHashMap<>();
+        Iterator<EventPO> iterator = pos.iterator();
+        for (Hermes<?> hermes : batch) {
+            hermes.setId(iterator.next().getId());
+            sendTo.put(hermes.getId(), hermes.getSendTo());
+        }
+        this.consumptionMapperService.sendBatch(sendTo);
+    }
+
+    /**
+     * 通过一个 Redis pipeline 批量发布事件通知
+     * Publish event notifications in one Redis pipeline
+     *
+     * @param batch 事件集合
+     *              Event collection
+     * @since 2026-01-08
+     */
+    private void publishBatch(Collection<? extends Hermes<?>> batch) {
+        List<Object> res = stringRedisTemplate.executePipelined((RedisCallback<Object>) link -> {
+            for (Hermes<?> hermes : batch) {
+                // 不是全局事件
+                if (!hermes.global())
+                    continue;
+                notify(link, hermes);
+            }
+            return null;
+        });
+
+        if (log.isDebugEnabled())
+            log.debug("Hermes Batch Publish Result: {}", res);
+    }
+
+    /**
+     * 在 pipeline 中写入一个事件的通知
+     * Write the notification of one event in a pipeline
+     * <p>
+     * 开启 Redis Stream 传输时 XADD 到每个订阅服务的 Stream，否则 PUBLISH 到事件类型频道
+     * <p>
+     * XADD to the stream of each subscriber service when the Redis Stream transport is enabled,
+     * otherwise PUBLISH to the event type channel
+     *
+     * @param link   Redis 连接
+     *               Redis connection
+     * @param hermes 事件对象
+     *               Event object
+     * @since 2026-01-08
+     */
+    private void notify(RedisConnection link, Hermes<?> hermes) {
+        byte[] bodyBytes = notification(hermes);
+        if (!this.streamProperty.isEnabled()) {
+            byte[] topicBytes = ("hermes:id:" + hermes.getType()).getBytes(StandardCharsets.UTF_8);
+            link.publish(topicBytes, bodyBytes);
+            return;
+        }
+
+        byte[] field = RedisStreamHermesConsumer.FIELD.getBytes(StandardCharsets.UTF_8);
+        RedisStreamCommands.XAddOptions options = RedisStreamCommands.XAddOptions
+                .maxlen(this.streamProperty.getMaxLen())
+                .approximateTrimming(true);
+        for (String serviceName : hermes.getSendTo()) {
+            byte[] keyBytes = ("hermes:stream:" + serviceName).getBytes(StandardCharsets.UTF_8);
+            ByteRecord record = StreamRecords.newRecord().in(keyBytes).ofBytes(Map.of(field, bodyBytes));
+            link.streamCommands().xAdd(record, options);
+        }
+    }
+
+    /**
+     * 生成事件通知内容
+     * Build the event notification body
+     * <p>
+     * 序列化后不超过配置大小的事件直接作为通知内容，否则只发送事件编号
+     * <p>
+     * Events not exceeding the configured size once serialized are sent as the notification body,
+     * otherwise only the event ID is sent
+     *
+     * @param hermes 事件对象
+     *               Event object
+     * @return 通知内容
+     * Notification body
+     * @since 2026-01-08
+     */
+    private byte[] notification(Hermes<?> hermes) {
+        int inlineMaxBytes = this.notifyProperty.getInlineMaxBytes();
+        if (inlineMaxBytes > 0) {
+            byte[] envelope = Json.instance.toStr(EventPO.from(hermes)).getBytes(StandardCharsets.UTF_8);
+            if (envelope.length <= inlineMaxBytes)
+                return envelope;
+        }
+        return hermes.getId().getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * 发布事件通知
      * Publish event notification
@@ -469,10 +1335,16 @@ public class HermesRepositoryImpl implements HermesRepository {
         if (Objects.isNull(hermes) || !hermes.global())
             return;
 
+        // 通过 Stream 传输时逐个订阅服务写入
+        if (this.streamProperty.isEnabled()) {
+            publishBatch(List.of(hermes));
+            return;
+        }
+
         // 针对性发布事件
         final String topic = "hermes:id:" + hermes.getType();
         final byte[] topicBytes = topic.getBytes(StandardCharsets.UTF_8);
-        final byte[] bodyBytes = hermes.getId().getBytes(StandardCharsets.UTF_8);
+        final byte[] bodyBytes = notification(hermes);
 
         final RedisCallback<Long> callback = link -> link.publish(topicBytes, bodyBytes);
 
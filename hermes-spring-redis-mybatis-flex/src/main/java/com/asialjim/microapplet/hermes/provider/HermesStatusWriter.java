@@ -0,0 +1,325 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.asialjim.microapplet.hermes.provider;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Hermes 消费状态异步写入器
+ * Hermes consumption status write-behind writer
+ * <pre>
+ *     监听器回调产生的状态变化按 (事件编号, 订阅服务, 监听器) 在内存中合并，处理中、成功、失败依次覆盖，
+ *     写入线程每个刷新周期取出全部记录，只把最终状态交给批量写入；
+ *     等待写入的记录过多或写入器已关闭时拒绝提交，由调用方同步写入；
+ *     写入失败的记录放回等待写入的记录中，按指数退避重试，重试时逐条写入，避免个别记录拖累整批
+ *     Status transitions produced by listener callbacks are merged in memory per (event ID, subscriber, listener),
+ *     processing, succeeded and failed override in turn, the writer thread takes all records every flush period
+ *     and hands only the final states to the batch write;
+ *     submissions are rejected when too many records are waiting or the writer is closed, the caller then writes synchronously;
+ *     records that failed to be written are put back among the waiting records and retried with exponential backoff,
+ *     one by one, so a single bad record does not hold back the whole batch
+ * </pre>
+ *
+ * @author <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+@Slf4j
+final class HermesStatusWriter implements AutoCloseable {
+    private final ConcurrentMap<Key, Transition> pending = new ConcurrentHashMap<>();
+    private final long flushIntervalNanos;
+    private final long maxRetryIntervalNanos;
+    private final int maxPending;
+    private final long closeTimeoutMillis;
+    private final Consumer<List<Transition>> writer;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * 连续写入失败的次数，仅由写入线程与关闭时的最后一次刷新访问
+     * Number of consecutive failed writes, accessed only by the writer thread and the final flush on close
+     */
+    private int failures;
+
+    /**
+     * 构造函数
+     * Constructor
+     *
+     * @param flushIntervalMillis    刷新周期（毫秒）
+     *                               Flush period in milliseconds
+     * @param maxRetryIntervalMillis 写入失败后最长重试间隔（毫秒）
+     *                               Maximum retry interval in milliseconds after failed writes
+     * @param maxPending             等待写入的最大消费记录数
+     *                               Maximum number of consumption records waiting to be written
+     * @param closeTimeoutMillis     关闭时等待写入线程结束的最长毫秒数
+     *                               Maximum milliseconds to wait for the writer thread on close
+     * @param writer                 批量写入最终状态
+     *                               Writes the final states in batches
+     * @since 2026-01-08
+     */
+    HermesStatusWriter(long flushIntervalMillis,
+                       long maxRetryIntervalMillis,
+                       int maxPending,
+                       long closeTimeoutMillis,
+                       Consumer<List<Transition>> writer) {
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMillis));
+        this.maxRetryIntervalNanos = Math.max(this.flushIntervalNanos, TimeUnit.MILLISECONDS.toNanos(maxRetryIntervalMillis));
+        this.maxPending = Math.max(1, maxPending);
+        this.closeTimeoutMillis = Math.max(0, closeTimeoutMillis);
+        this.writer = writer;
+        this.thread = Thread.ofPlatform()
+                .name("hermes-status-writer")
+                .daemon(true)
+                .start(this::run);
+    }
+
+    /**
+     * 提交状态变化
+     * Submit a status transition
+     *
+     * @param transition 状态变化
+     *                   Status transition
+     * @return 是否已接受，未接受时由调用方同步写入
+     * Whether it is accepted, the caller writes synchronously otherwise
+     * @since 2026-01-08
+     */
+    boolean submit(Transition transition) {
+        if (!this.running || this.pending.size() >= this.maxPending)
+            return false;
+        this.pending.merge(new Key(transition.eventId(), transition.subscriber(), transition.listener()), transition, Transition::merge);
+        return true;
+    }
+
+    /**
+     * 写入线程主循环
+     * Main loop of the writer thread
+     */
+    private void run() {
+        while (this.running) {
+            LockSupport.parkNanos(interval());
+            flush();
+        }
+    }
+
+    /**
+     * 下一次刷新前等待的纳秒数，连续写入失败时按指数退避延长
+     * Nanoseconds to wait before the next flush, extended by exponential backoff on consecutive failed writes
+     */
+    private long interval() {
+        if (this.failures == 0)
+            return this.flushIntervalNanos;
+        long backoff = this.flushIntervalNanos << Math.min(this.failures, 20);
+        return backoff <= 0 ? this.maxRetryIntervalNanos : Math.min(backoff, this.maxRetryIntervalNanos);
+    }
+
+    /**
+     * 取出全部等待写入的记录并批量写入
+     * Take all records waiting to be written and write them in batches
+     */
+    private void flush() {
+        if (this.pending.isEmpty())
+            return;
+
+        List<Transition> batch = new ArrayList<>(this.pending.size());
+        for (Key key : this.pending.keySet()) {
+            Transition transition = this.pending.remove(key);
+            if (Objects.nonNull(transition))
+                batch.add(transition);
+        }
+        if (batch.isEmpty())
+            return;
+
+        // 上次写入失败后逐条写入，只把仍失败的记录放回
+        List<Transition> failed = this.failures == 0 ? write(batch) : writeOneByOne(batch);
+        if (failed.isEmpty()) {
+            this.failures = 0;
+            if (log.isDebugEnabled())
+                log.debug("Hermes status writer flushed {} consumptions", batch.size());
+            return;
+        }
+
+        this.failures++;
+        requeue(failed);
+        log.warn("Hermes status write of {} of {} consumptions failed, retry in {} ms",
+                failed.size(), batch.size(), TimeUnit.NANOSECONDS.toMillis(interval()));
+    }
+
+    /**
+     * 整批写入
+     * Write the whole batch
+     *
+     * @return 写入失败的记录
+     * Records that failed to be written
+     */
+    private List<Transition> write(List<Transition> batch) {
+        try {
+            this.writer.accept(batch);
+            return List.of();
+        } catch (Throwable e) {
+            log.warn("Hermes status write of {} consumptions failed: {}", batch.size(), e.getMessage());
+            return batch;
+        }
+    }
+
+    /**
+     * 逐条写入，写入是幂等的，整批失败前已写入的记录再次写入不会重复计数
+     * Write one by one, writing is idempotent so records already written before the batch failed are not counted twice
+     *
+     * @return 写入失败的记录
+     * Records that failed to be written
+     */
+    private List<Transition> writeOneByOne(List<Transition> batch) {
+        List<Transition> failed = new ArrayList<>();
+        for (Transition transition : batch) {
+            try {
+                this.writer.accept(List.of(transition));
+            } catch (Throwable e) {
+                log.warn("Hermes status write of Hermes: {} for Service: {} failed: {}",
+                        transition.eventId(), transition.subscriber(), e.getMessage());
+                failed.add(transition);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 将写入失败的记录放回，与期间新提交的状态变化合并，新提交的变化视为较晚的变化
+     * Put failed records back, merged with transitions submitted meanwhile, which count as the later ones
+     */
+    private void requeue(List<Transition> failed) {
+        for (Transition transition : failed) {
+            this.pending.merge(new Key(transition.eventId(), transition.subscriber(), transition.listener()), transition,
+                    (submitted, earlier) -> earlier.merge(submitted));
+        }
+    }
+
+    /**
+     * 停止写入线程，并写入剩余的记录；仍写入失败的记录由处理租约过期后重新投递兜底
+     * Stop the writer thread and write the remaining records; records still failing are recovered by redelivery after
+     * the processing lease expires
+     *
+     * @since 2026-01-08
+     */
+    @Override
+    public void close() {
+        this.running = false;
+        LockSupport.unpark(this.thread);
+        try {
+            this.thread.join(Math.max(1, this.closeTimeoutMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        if (!this.pending.isEmpty())
+            log.warn("Hermes status writer closed with {} consumptions unwritten", this.pending.size());
+        this.pending.clear();
+    }
+
+    /**
+     * 消费状态
+     * Consumption state
+     * <p>
+     * 按声明顺序优先级递增，合并时保留优先级较高的状态
+     * Declared in increasing precedence, merging keeps the state with the higher precedence
+     */
+    enum State {
+        PROCESSING, SUCCEEDED, FAILED
+    }
+
+    /**
+     * 合并键
+     * Merge key
+     *
+     * @param eventId    事件编号
+     *                   Event ID
+     * @param subscriber 订阅服务
+     *                   Subscriber service
+     * @param listener   监听器，消费记录级别的状态变化为空
+     *                   Listener, null for consumption level transitions
+     */
+    private record Key(String eventId, String subscriber, String listener) {
+    }
+
+    /**
+     * 一条消费记录或一个监听器处理结果的状态变化
+     * Status transition of one consumption record or of one listener outcome
+     *
+     * @param eventId         事件编号
+     *                        Event ID
+     * @param subscriber      订阅服务
+     *                        Subscriber service
+     * @param listener        监听器，消费记录级别的状态变化为空
+     *                        Listener, null for consumption level transitions
+     * @param state           消费状态
+     *                        Consumption state
+     * @param code            结果码
+     *                        Result code
+     * @param description     结果描述
+     *                        Result description
+     * @param eventProcessing 是否需要将事件标记为处理中
+     *                        Whether the event is to be marked as processing
+     */
+    record Transition(String eventId,
+                      String subscriber,
+                      String listener,
+                      State state,
+                      String code,
+                      String description,
+                      boolean eventProcessing) {
+
+        static Transition processing(String eventId, String subscriber) {
+            return new Transition(eventId, subscriber, null, State.PROCESSING, null, null, true);
+        }
+
+        static Transition succeeded(String eventId, String subscriber, String description) {
+            return new Transition(eventId, subscriber, null, State.SUCCEEDED, "0", description, false);
+        }
+
+        static Transition failed(String eventId, String subscriber, String code, String description) {
+            return new Transition(eventId, subscriber, null, State.FAILED, code, description, false);
+        }
+
+        static Transition listenerSucceeded(String eventId, String subscriber, String listener) {
+            return new Transition(eventId, subscriber, listener, State.SUCCEEDED, "0", null, false);
+        }
+
+        static Transition listenerFailed(String eventId, String subscriber, String listener, String code, String description) {
+            return new Transition(eventId, subscriber, listener, State.FAILED, code, description, false);
+        }
+
+        /**
+         * 合并较晚提交的状态变化，已进入成功或失败时不再将事件标记为处理中
+         * Merge a later submitted status transition, the event is no longer marked as processing once succeeded or failed
+         */
+        Transition merge(Transition later) {
+            Transition winner = later.state().compareTo(this.state()) >= 0 ? later : this;
+            boolean eventProcessing = winner.state() == State.PROCESSING && (this.eventProcessing() || later.eventProcessing());
+            return new Transition(this.eventId(), this.subscriber(), this.listener(), winner.state(), winner.code(), winner.description(),
+                    eventProcessing);
+        }
+    }
+}
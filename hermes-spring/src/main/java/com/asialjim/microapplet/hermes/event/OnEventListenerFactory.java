@@ -17,11 +17,17 @@
 package com.asialjim.microapplet.hermes.event;
 
 import com.asialjim.microapplet.hermes.HermesService;
+import com.asialjim.microapplet.hermes.annotation.ExecutorType;
+import com.asialjim.microapplet.hermes.dispatcher.AsyncDispatcher;
+import com.asialjim.microapplet.hermes.dispatcher.RingBufferDispatcher;
+import com.asialjim.microapplet.hermes.dispatcher.VirtualThreadDispatcher;
 import com.asialjim.microapplet.hermes.listener.*;
 import com.asialjim.microapplet.hermes.provider.HermesRepository;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -29,6 +35,7 @@ import org.springframework.context.ApplicationContextAware;
 import java.lang.reflect.Method;
 import java.util.Objects;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 
 /**
@@ -88,6 +95,48 @@ public class OnEventListenerFactory
     private boolean async;
     private Executor executor;
 
+    /**
+     * 异步监听器的执行方式
+     * Execution mode of async listener
+     */
+    private ExecutorType executorType = ExecutorType.DEFAULT;
+
+    /**
+     * 顺序键对应的事件属性名称
+     * Name of the event property used as ordering key
+     */
+    private String orderKey;
+
+    /**
+     * 方法参数是否为一批事件
+     * Whether the method parameter is a batch of events
+     */
+    private boolean batch;
+
+    /**
+     * 批量方法参数是否为 {@link HermesBatch}，否则为 {@link java.util.List}
+     * Whether the batch method parameter is {@link HermesBatch}, otherwise {@link java.util.List}
+     */
+    private boolean hermesBatch;
+
+    /**
+     * 批量监听器每批最多事件数量
+     * Maximum number of events per batch of a batch listener
+     */
+    private int maxSize;
+
+    /**
+     * 批量监听器收到第一个事件后最长等待毫秒数
+     * Maximum milliseconds a batch listener waits after the first event
+     */
+    private long maxWait;
+
+    /**
+     * 已创建的监听器，批量监听器持有凑批线程，只创建一次
+     * Created listener, a batch listener owns a batching thread and is created only once
+     */
+    private Listener<?> listener;
+
     /**
      * 创建并返回MethodListener实例
      * Create and return MethodListener instance
@@ -97,28 +146,87 @@ public class OnEventListenerFactory
      * @since 2026-01-08
      */
     @Override
-    public Listener<?> getObject() {
+    public synchronized Listener<?> getObject() {
+        if (Objects.isNull(this.listener))
+            this.listener = createListener();
+        return this.listener;
+    }
+
+    /**
+     * 根据配置创建监听器
+     * Create the listener according to the configuration
+     *
+     * @return 监听器实例
+     * Listener instance
+     * @since 2026-01-08
+     */
+    private Listener<?> createListener() {
         if (log.isDebugEnabled())
             log.info("MethodListener {} Creating...", beanName);
         HermesService serviceName = this.applicationContext.getBean(HermesService.class);
+        AsyncDispatcher dispatcher = async ? dispatcher() : null;
+        RingBufferDispatcher orderedDispatcher = async ? this.applicationContext.getBeanProvider(RingBufferDispatcher.class).getIfAvailable() : null;
+        Function<Object, Object> orderingKey = async ? OrderingKeys.of(eventType, orderKey) : null;
+        // 创建时即生成强类型调用器，事件分发时不再反射调用
+        MethodInvoker invoker = MethodInvoker.of(bean, method);
 
         // 当前监听器只监听本JVM事件
         if (jvmOnly) {
             if (async) {
-                AsyncJvmOnlyOnlyMethodListener<?> listener = new AsyncJvmOnlyOnlyMethodListener<>(serviceName, bean, method, eventType, order);
+                AsyncJvmOnlyOnlyMethodListener<?> listener = new AsyncJvmOnlyOnlyMethodListener<>(serviceName, invoker, eventType, order);
                 listener.setExecutor(this.executor);
+                listener.setDispatcher(dispatcher);
+                listener.setOrderedDispatcher(orderedDispatcher);
+                listener.setOrderingKey(orderingKey);
                 return listener;
             }
-            return new JvmOnlyMethodListener<>(serviceName, bean, method, eventType, order);
+            return new JvmOnlyMethodListener<>(serviceName, invoker, eventType, order);
         }
 
         HermesRepository hermesRepository = this.applicationContext.getBean(HermesRepository.class);
+        // 监听器Bean名称（bean#method(Param)）在服务内唯一标识被标记的方法，用于记录每个监听器的处理结果
+        String name = this.beanName;
+        // 批量监听器由自己的凑批线程调用方法，不再使用异步执行方式
+        if (batch)
+            return new BatchMethodListener<>(serviceName, hermesRepository, invoker, eventType, order, name, hermesBatch, maxSize, maxWait);
         if (async) {
-            AsyncMethodListener<?> listener = new AsyncMethodListener<>(serviceName, hermesRepository, bean, method, eventType, order);
+            AsyncMethodListener<?> listener = new AsyncMethodListener<>(serviceName, hermesRepository, invoker, eventType, order, name);
             listener.setExecutor(this.executor);
+            listener.setDispatcher(dispatcher);
+            listener.setOrderedDispatcher(orderedDispatcher);
+            listener.setOrderingKey(orderingKey);
             return listener;
         }
-        return new MethodListener<>(serviceName, hermesRepository, bean, method, eventType, order);
+        return new MethodListener<>(serviceName, hermesRepository, invoker, eventType, order, name);
+    }
+
+    /**
+     * 获取异步监听器使用的分发器
+     * Get the dispatcher used by async listener
+     * <pre>
+     *     VIRTUAL：使用虚拟线程分发器
+     *     DEFAULT：hermes.async.mode=ring 时使用环形缓冲区分发器，否则返回{@code null}，由执行器处理
+     *     带顺序键的事件总是交由环形缓冲区分发器按顺序键分通道处理
+     *     VIRTUAL: use the virtual thread dispatcher
+     *     DEFAULT: use the ring buffer dispatcher when hermes.async.mode=ring, otherwise {@code null} and the executor is used
+     *     Events with an ordering key always go to the ring buffer dispatcher, partitioned by key
+     * </pre>
+     *
+     * @return 分发器，可能为{@code null}
+     * Dispatcher, nullable
+     * @since 2026-01-08
+     */
+    private AsyncDispatcher dispatcher() {
+        if (ExecutorType.VIRTUAL == this.executorType) {
+            VirtualThreadDispatcher dispatcher = this.applicationContext.getBeanProvider(VirtualThreadDispatcher.class).getIfAvailable();
+            if (Objects.nonNull(dispatcher))
+                return dispatcher;
+            log.warn("MethodListener {} requires virtual thread executor, but no VirtualThreadDispatcher found, fallback to default", beanName);
+        }
+        String mode = this.applicationContext.getEnvironment().getProperty("hermes.async.mode");
+        if (!StringUtils.equalsIgnoreCase("ring", mode))
+            return null;
+        return this.applicationContext.getBeanProvider(RingBufferDispatcher.class).getIfAvailable();
     }
 
     /**
@@ -136,16 +244,34 @@ public class OnEventListenerFactory
         Objects.requireNonNull(getObject()).register();
     }
 
+    /**
+     * 销毁方法，关闭持有线程的监听器，处理完已缓冲的事件
+     * Destroy method, close the listener owning a thread after the buffered events are processed
+     *
+     * @since 2026-01-08
+     */
+    @PreDestroy
+    public void destroy() throws Exception {
+        if (this.listener instanceof AutoCloseable closeable)
+            closeable.close();
+    }
+
     /**
      * 获取FactoryBean创建的对象类型
      * Get the object type created by FactoryBean
      *
-     * @return MethodListener.class
-     * MethodListener.class
+     * @return 与{@link #createListener()}创建的监听器一致的类型
+     * The type of the listener created by {@link #createListener()}
      * @since 2026-01-08
      */
     @Override
     public Class<?> getObjectType() {
-        return MethodListener.class;
+        if (Objects.nonNull(this.listener))
+            return this.listener.getClass();
+        if (jvmOnly)
+            return async ? AsyncJvmOnlyOnlyMethodListener.class : JvmOnlyMethodListener.class;
+        if (batch)
+            return BatchMethodListener.class;
+        return async ? AsyncMethodListener.class : MethodListener.class;
     }
 }
\ No newline at end of file
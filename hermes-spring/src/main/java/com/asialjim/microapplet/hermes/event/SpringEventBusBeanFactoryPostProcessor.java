@@ -34,6 +34,9 @@ import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
@@ -135,6 +138,30 @@ public class SpringEventBusBeanFactoryPostProcessor
         register(beanFactory, beanName, method, parameterTypes, onEvent);
     }
 
+    /**
+     * 获取批量监听器方法参数 {@code List<E>} 或 {@code HermesBatch<E>} 的元素类型
+     * Get the element type of the {@code List<E>} or {@code HermesBatch<E>} parameter of a batch listener method
+     *
+     * @param method 带有@OnEvent注解的方法
+     *               Method with @OnEvent annotation
+     * @return 元素类型
+     * Element type
+     * @throws IllegalStateException 如果未声明具体的元素类型
+     *                               If no concrete element type is declared
+     * @since 2026-01-08
+     */
+    private Class<?> batchElementType(Method method) {
+        Type type = method.getGenericParameterTypes()[0];
+        if (type instanceof ParameterizedType parameterizedType) {
+            Type argument = parameterizedType.getActualTypeArguments()[0];
+            if (argument instanceof ParameterizedType parameterizedArgument)
+                argument = parameterizedArgument.getRawType();
+            if (argument instanceof Class<?> elementType)
+                return elementType;
+        }
+        throw new IllegalStateException("Method " + method.getName() + " must declare a concrete element type of the batch,Cause it was Tagged by " + OnEvent.class);
+    }
+
     /**
      * 注册MethodListenerFactory Bean定义
      * Register MethodListenerFactory Bean definition
@@ -155,6 +182,12 @@ public class SpringEventBusBeanFactoryPostProcessor
                           Class<?>[] parameterTypes,
                           OnEvent onEvent) {
         Class<?> parameterType = parameterTypes[0];
+        boolean batch = List.class.equals(parameterType) || HermesBatch.class.equals(parameterType);
+        if (batch && onEvent.jvmOnly())
+            throw new IllegalStateException("Method " + method.getName() + " receiving a batch can not be jvmOnly,Cause it was Tagged by " + OnEvent.class);
+        // 批量监听器由自己的凑批线程调用方法，异步执行方式不会生效
+        if (batch && onEvent.async())
+            throw new IllegalStateException("Method " + method.getName() + " receiving a batch can not be async,Cause it was Tagged by " + OnEvent.class);
         String listenerBeanName = beanName + "#" + method.getName() + "(" + parameterType.getSimpleName() + ")";
 
         // 创建MethodListenerFactory的Bean定义
@@ -162,10 +195,16 @@ public class SpringEventBusBeanFactoryPostProcessor
         builder.addPropertyValue("beanName", listenerBeanName);
         builder.addPropertyReference("bean", beanName);
         builder.addPropertyValue("method", method);
-        builder.addPropertyValue("eventType", parameterType);
+        builder.addPropertyValue("eventType", batch ? batchElementType(method) : parameterType);
+        builder.addPropertyValue("batch", batch);
+        builder.addPropertyValue("hermesBatch", HermesBatch.class.equals(parameterType));
+        builder.addPropertyValue("maxSize", onEvent.maxSize());
+        builder.addPropertyValue("maxWait", onEvent.maxWait());
         builder.addPropertyValue("order", onEvent.order());
         builder.addPropertyValue("jvmOnly", onEvent.jvmOnly());
         builder.addPropertyValue("async", onEvent.async());
+        builder.addPropertyValue("executorType", onEvent.executor());
+        builder.addPropertyValue("orderKey", onEvent.orderKey());
 
         String executorName = executorBeanName(beanFactory);
         if (StringUtils.isNotBlank(executorName))
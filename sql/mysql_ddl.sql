@@ -14,9 +14,17 @@
  *    limitations under the License.
  */
 
+-- 已有安装请执行 mysql_upgrade_2.0.0.sql 升级表结构，本文件的 CREATE TABLE IF NOT EXISTS 不会修改已存在的表
+-- Existing installs must run mysql_upgrade_2.0.0.sql, CREATE TABLE IF NOT EXISTS below does not alter existing tables
+
+-- 主键与关联编号均为 bigint，由 Hermes 编号生成器按时间递增生成，新记录追加在聚簇索引末尾
+-- 已有 varchar(36) 表无需迁移即可继续使用，新编号同样可以存入
+-- Ids and references are bigint, generated in time order by the Hermes id generator so new rows append to the clustered index
+-- Existing varchar(36) tables keep working without migration, new ids fit into them as well
+
 -- 订阅者表
 CREATE TABLE IF NOT EXISTS `hermes_subscriber` (
-  `id` varchar(36) NOT NULL COMMENT '主键ID，自动生成UUID',
+  `id` bigint NOT NULL COMMENT '主键ID，按时间递增的雪花编号',
   `type` varchar(255) NOT NULL COMMENT '事件类型',
   `application` varchar(255) NOT NULL COMMENT '订阅者名称',
   `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
@@ -26,15 +34,15 @@ CREATE TABLE IF NOT EXISTS `hermes_subscriber` (
 
 -- 事件表
 CREATE TABLE IF NOT EXISTS `hermes_event` (
-  `id` varchar(36) NOT NULL COMMENT '事件编号，自动生成UUID',
+  `id` bigint NOT NULL COMMENT '事件编号，按时间递增的雪花编号',
   `type` varchar(255) NOT NULL COMMENT '事件类型',
   `data` text NOT NULL COMMENT '事件内容',
   `status` varchar(50) NOT NULL COMMENT '事件状态',
   `send_by` varchar(255) NOT NULL COMMENT '事件发送者',
   `send_to` varchar(1000) DEFAULT NULL COMMENT '事件接收者，逗号分隔的服务名称列表',
-  `sub_service_num` int DEFAULT 0 COMMENT '关注此事件的服务数量',
-  `succeed_service_num` int DEFAULT 0 COMMENT '成功处理此事件的服务数量',
-  `failed_service_num` int DEFAULT 0 COMMENT '失败处理此事件的服务数量',
+  `sub_service_num` int NOT NULL DEFAULT 0 COMMENT '关注此事件的服务数量',
+  `succeed_service_num` int NOT NULL DEFAULT 0 COMMENT '成功处理此事件的服务数量',
+  `failed_service_num` int NOT NULL DEFAULT 0 COMMENT '失败处理此事件的服务数量',
   `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '事件创建时间',
   `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '事件更新时间',
   PRIMARY KEY (`id`),
@@ -44,7 +52,7 @@ CREATE TABLE IF NOT EXISTS `hermes_event` (
 
 -- 事件归档表
 CREATE TABLE IF NOT EXISTS `hermes_event_archive` (
-  `id` varchar(36) NOT NULL COMMENT '事件编号',
+  `id` bigint NOT NULL COMMENT '事件编号',
   `type` varchar(255) NOT NULL COMMENT '事件类型',
   `data` text NOT NULL COMMENT '事件内容',
   `status` varchar(50) NOT NULL COMMENT '事件状态',
@@ -61,25 +69,31 @@ CREATE TABLE IF NOT EXISTS `hermes_event_archive` (
 
 -- 消费记录表
 CREATE TABLE IF NOT EXISTS `hermes_consumption` (
-  `id` varchar(36) NOT NULL COMMENT '主键ID，自动生成UUID',
-  `event_id` varchar(36) NOT NULL COMMENT '事件ID，关联事件表',
+  `id` bigint NOT NULL COMMENT '主键ID，按时间递增的雪花编号',
+  `event_id` bigint NOT NULL COMMENT '事件ID，关联事件表',
   `subscriber` varchar(255) NOT NULL COMMENT '订阅者名称',
   `status` varchar(50) NOT NULL COMMENT '消费状态',
   `code` varchar(255) DEFAULT NULL COMMENT '状态码',
   `description` varchar(255) DEFAULT NULL COMMENT '描述信息',
   `retry_times` int DEFAULT 0 COMMENT '重试次数',
   `next_time` datetime DEFAULT NULL COMMENT '下次执行时间',
+  `lease_owner` varchar(255) DEFAULT NULL COMMENT '租约持有者，处理中记录所属的服务实例编号',
+  `lease_expire_time` datetime DEFAULT NULL COMMENT '租约到期时间',
   `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
   `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
   PRIMARY KEY (`id`),
   UNIQUE KEY `uk_consumption_event_id_subscriber` (`event_id`,`subscriber`),
-  KEY `idx_consumption_status` (`status`)
+  KEY `idx_consumption_status` (`status`),
+  KEY `idx_consumption_subscriber_status_time` (`subscriber`,`status`,`create_time`),
+  KEY `idx_consumption_subscriber_status_next_time` (`subscriber`,`status`,`next_time`),
+  KEY `idx_consumption_subscriber_status_lease_expire_time` (`subscriber`,`status`,`lease_expire_time`),
+  KEY `idx_consumption_lease_owner_status` (`lease_owner`,`status`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='消费记录表';
 
 -- 消费记录归档表
 CREATE TABLE IF NOT EXISTS `hermes_consumption_archive` (
-  `id` varchar(36) NOT NULL COMMENT '主键ID',
-  `event_id` varchar(36) NOT NULL COMMENT '事件ID，关联事件表',
+  `id` bigint NOT NULL COMMENT '主键ID',
+  `event_id` bigint NOT NULL COMMENT '事件ID，关联事件表',
   `subscriber` varchar(255) NOT NULL COMMENT '订阅者名称',
   `status` varchar(50) NOT NULL COMMENT '消费状态',
   `code` varchar(255) DEFAULT NULL COMMENT '状态码',
@@ -95,9 +109,9 @@ CREATE TABLE IF NOT EXISTS `hermes_consumption_archive` (
 
 -- 消费详情表
 CREATE TABLE IF NOT EXISTS `hermes_consumption_detail` (
-  `id` varchar(36) NOT NULL COMMENT '主键ID，自动生成UUID',
-  `consumption_id` varchar(36) NOT NULL COMMENT '消费记录ID，关联消费记录表',
-  `event_id` varchar(36) NOT NULL COMMENT '事件ID，关联事件表',
+  `id` bigint NOT NULL COMMENT '主键ID，按时间递增的雪花编号',
+  `consumption_id` bigint DEFAULT NULL COMMENT '消费记录ID，关联消费记录表',
+  `event_id` bigint NOT NULL COMMENT '事件ID，关联事件表',
   `subscriber` varchar(255) NOT NULL COMMENT '订阅者名称',
   `listener` varchar(255) NOT NULL COMMENT '监听器名称',
   `status` varchar(50) NOT NULL COMMENT '消费状态',
@@ -106,15 +120,15 @@ CREATE TABLE IF NOT EXISTS `hermes_consumption_detail` (
   `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
   `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
   PRIMARY KEY (`id`),
-  UNIQUE KEY `uk_consumption_detail_combination` (`consumption_id`,`event_id`,`subscriber`,`listener`),
+  UNIQUE KEY `uk_consumption_detail_event_subscriber_listener` (`event_id`,`subscriber`,`listener`),
   KEY `idx_consumption_detail_status` (`status`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='消费详情表';
 
 -- 消费详情归档表
 CREATE TABLE IF NOT EXISTS `hermes_consumption_detail_archive` (
-  `id` varchar(36) NOT NULL COMMENT '主键ID',
-  `consumption_id` varchar(36) NOT NULL COMMENT '消费记录ID，关联消费记录表',
-  `event_id` varchar(36) NOT NULL COMMENT '事件ID，关联事件表',
+  `id` bigint NOT NULL COMMENT '主键ID',
+  `consumption_id` bigint DEFAULT NULL COMMENT '消费记录ID，关联消费记录表',
+  `event_id` bigint NOT NULL COMMENT '事件ID，关联事件表',
   `subscriber` varchar(255) NOT NULL COMMENT '订阅者名称',
   `listener` varchar(255) NOT NULL COMMENT '监听器名称',
   `status` varchar(50) NOT NULL COMMENT '消费状态',
@@ -123,6 +137,6 @@ CREATE TABLE IF NOT EXISTS `hermes_consumption_detail_archive` (
   `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
   `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
   PRIMARY KEY (`id`),
-  UNIQUE KEY `uk_consumption_detail_archive_combination` (`consumption_id`,`event_id`,`subscriber`,`listener`),
+  UNIQUE KEY `uk_consumption_detail_archive_event_subscriber_listener` (`event_id`,`subscriber`,`listener`),
   KEY `idx_consumption_detail_archive_status` (`status`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='消费详情归档表';
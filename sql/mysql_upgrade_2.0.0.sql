@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2014-2026 <a href="mailto:asialjim@qq.com">Asial Jim</a>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+-- Hermes 2.0.0 表结构升级脚本，用于已按旧版 mysql_ddl.sql 建表的安装，每段只需执行一次
+-- MySQL 不支持 ADD COLUMN IF NOT EXISTS，重复执行的语句会因列或索引已存在而失败，可忽略
+-- Hermes 2.0.0 schema upgrade for installs created with the previous mysql_ddl.sql, run each section once
+-- MySQL has no ADD COLUMN IF NOT EXISTS, statements run again fail because the column or index exists and can be ignored
+
+-- 处理租约与补偿消费索引
+-- Processing leases and compensation consumption indexes
+ALTER TABLE `hermes_consumption`
+  ADD COLUMN `lease_owner` varchar(255) DEFAULT NULL COMMENT '租约持有者，处理中记录所属的服务实例编号' AFTER `next_time`,
+  ADD COLUMN `lease_expire_time` datetime DEFAULT NULL COMMENT '租约到期时间' AFTER `lease_owner`,
+  ADD KEY `idx_consumption_subscriber_status_time` (`subscriber`,`status`,`create_time`),
+  ADD KEY `idx_consumption_subscriber_status_next_time` (`subscriber`,`status`,`next_time`),
+  ADD KEY `idx_consumption_subscriber_status_lease_expire_time` (`subscriber`,`status`,`lease_expire_time`),
+  ADD KEY `idx_consumption_lease_owner_status` (`lease_owner`,`status`);
+
+-- 雪花编号（可选）：varchar(36) 编号列可继续使用，新编号同样可以存入；
+-- 只有表中不存在 UUID 编号（新安装、或旧数据已归档清空）时才能改为 bigint，否则 MODIFY 会因无法转换而失败
+-- Snowflake ids (optional): varchar(36) id columns keep working and new ids fit into them;
+-- switch to bigint only when no UUID ids are left (fresh data, or old rows archived away), otherwise MODIFY fails to convert
+-- ALTER TABLE `hermes_subscriber` MODIFY `id` bigint NOT NULL COMMENT '主键ID，按时间递增的雪花编号';
+-- ALTER TABLE `hermes_event` MODIFY `id` bigint NOT NULL COMMENT '事件编号，按时间递增的雪花编号';
+-- ALTER TABLE `hermes_event_archive` MODIFY `id` bigint NOT NULL COMMENT '事件编号';
+-- ALTER TABLE `hermes_consumption` MODIFY `id` bigint NOT NULL COMMENT '主键ID，按时间递增的雪花编号', MODIFY `event_id` bigint NOT NULL COMMENT '事件ID，关联事件表';
+-- ALTER TABLE `hermes_consumption_archive` MODIFY `id` bigint NOT NULL COMMENT '主键ID', MODIFY `event_id` bigint NOT NULL COMMENT '事件ID，关联事件表';
+-- ALTER TABLE `hermes_consumption_detail` MODIFY `id` bigint NOT NULL COMMENT '主键ID，按时间递增的雪花编号', MODIFY `event_id` bigint NOT NULL COMMENT '事件ID，关联事件表';
+-- ALTER TABLE `hermes_consumption_detail_archive` MODIFY `id` bigint NOT NULL COMMENT '主键ID', MODIFY `event_id` bigint NOT NULL COMMENT '事件ID，关联事件表';
+
+-- 事件完成计数：计数以原子增量累加，NULL 加任何数仍为 NULL，先补齐为 0 再禁止为空
+-- Event completion counters: counters are incremented atomically and NULL plus anything stays NULL, backfill 0 then forbid NULL
+UPDATE `hermes_event` SET `sub_service_num` = COALESCE(`sub_service_num`, 0), `succeed_service_num` = COALESCE(`succeed_service_num`, 0), `failed_service_num` = COALESCE(`failed_service_num`, 0)
+  WHERE `sub_service_num` IS NULL OR `succeed_service_num` IS NULL OR `failed_service_num` IS NULL;
+ALTER TABLE `hermes_event`
+  MODIFY `sub_service_num` int NOT NULL DEFAULT 0 COMMENT '关注此事件的服务数量',
+  MODIFY `succeed_service_num` int NOT NULL DEFAULT 0 COMMENT '成功处理此事件的服务数量',
+  MODIFY `failed_service_num` int NOT NULL DEFAULT 0 COMMENT '失败处理此事件的服务数量';
+
+-- 监听器消费明细：按（事件，订阅服务，监听器）唯一，消费记录编号改为可空，保留原 varchar(36) 类型即可存入新编号
+-- Listener consumption details: unique per (event, subscriber, listener), consumption id becomes nullable and keeps its varchar(36) type
+-- 旧数据中同一（事件，订阅服务，监听器）若存在多行，需先只保留一行，否则唯一键无法建立
+-- If old data holds several rows for one (event, subscriber, listener), keep only one of them first, otherwise the unique key can not be built
+ALTER TABLE `hermes_consumption_detail`
+  MODIFY `consumption_id` varchar(36) DEFAULT NULL COMMENT '消费记录ID，关联消费记录表',
+  DROP KEY `uk_consumption_detail_combination`,
+  ADD UNIQUE KEY `uk_consumption_detail_event_subscriber_listener` (`event_id`,`subscriber`,`listener`);
+ALTER TABLE `hermes_consumption_detail_archive`
+  MODIFY `consumption_id` varchar(36) DEFAULT NULL COMMENT '消费记录ID，关联消费记录表',
+  DROP KEY `uk_consumption_detail_archive_combination`,
+  ADD UNIQUE KEY `uk_consumption_detail_archive_event_subscriber_listener` (`event_id`,`subscriber`,`listener`);